@@ -66,6 +66,25 @@ public class Configuration {
     private Integer connectionLivenessCheckTimeout;
     private Boolean verifyConnection;
     private Boolean useNativeTypes;
+    private Integer slowQueryThreshold;
+    private Integer maxResultRows;
+    private Integer maxHydratedEntities;
+    private Integer maxTransactionRetryTime;
+    private Integer httpConnectTimeout;
+    private Integer httpSocketTimeout;
+    private Integer httpConnectionRequestTimeout;
+    private Integer httpValidateAfterInactivity;
+    private Integer httpMaxIdleTime;
+    private Integer httpKeepAliveTime;
+    private Integer httpRetryMaxAttempts;
+    private Integer httpRetryInitialBackoff;
+    private Integer httpRetryMaxBackoff;
+    private Double httpRetryJitter;
+    private Integer[] httpRetryStatusCodes;
+    private String[] httpRetryExceptions;
+    private Integer httpCircuitBreakerThreshold;
+    private Integer httpCircuitBreakerOpenTime;
+    private Boolean embeddedBulkWrite;
     private Map<String, Object> customProperties;
     /**
      * Base packages to scan for annotated components. They will be merged into a unique list
@@ -95,6 +114,25 @@ public class Configuration {
         this.neo4jConfLocation = builder.neo4jConfLocation;
         this.customProperties = builder.customProperties;
         this.useNativeTypes = builder.useNativeTypes;
+        this.slowQueryThreshold = builder.slowQueryThreshold;
+        this.maxResultRows = builder.maxResultRows;
+        this.maxHydratedEntities = builder.maxHydratedEntities;
+        this.maxTransactionRetryTime = builder.maxTransactionRetryTime;
+        this.httpConnectTimeout = builder.httpConnectTimeout;
+        this.httpSocketTimeout = builder.httpSocketTimeout;
+        this.httpConnectionRequestTimeout = builder.httpConnectionRequestTimeout;
+        this.httpValidateAfterInactivity = builder.httpValidateAfterInactivity;
+        this.httpMaxIdleTime = builder.httpMaxIdleTime;
+        this.httpKeepAliveTime = builder.httpKeepAliveTime;
+        this.httpRetryMaxAttempts = builder.httpRetryMaxAttempts;
+        this.httpRetryInitialBackoff = builder.httpRetryInitialBackoff;
+        this.httpRetryMaxBackoff = builder.httpRetryMaxBackoff;
+        this.httpRetryJitter = builder.httpRetryJitter;
+        this.httpRetryStatusCodes = builder.httpRetryStatusCodes;
+        this.httpRetryExceptions = builder.httpRetryExceptions;
+        this.httpCircuitBreakerThreshold = builder.httpCircuitBreakerThreshold;
+        this.httpCircuitBreakerOpenTime = builder.httpCircuitBreakerOpenTime;
+        this.embeddedBulkWrite = builder.embeddedBulkWrite;
         this.basePackages = builder.basePackages;
 
         URI parsedUri = getSingleURI();
@@ -226,6 +264,169 @@ public class Configuration {
         return useNativeTypes;
     }
 
+    /**
+     * @return The duration in milliseconds after which a query is logged as slow, {@literal null} if slow queries are
+     * not logged
+     * @since 3.2
+     */
+    public Integer getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * @return The maximum number of rows a single session operation may read, {@literal null} if not limited
+     * @since 3.2
+     */
+    public Integer getMaxResultRows() {
+        return maxResultRows;
+    }
+
+    /**
+     * @return The maximum number of entities a single session operation may hydrate, {@literal null} if not limited
+     * @since 3.2
+     */
+    public Integer getMaxHydratedEntities() {
+        return maxHydratedEntities;
+    }
+
+    /**
+     * @return The time in milliseconds for which transaction functions are retried, {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer getMaxTransactionRetryTime() {
+        return maxTransactionRetryTime;
+    }
+
+    /**
+     * @return The time in milliseconds the HTTP driver waits for a connection to be established, {@literal null} if
+     * not limited
+     * @since 3.2
+     */
+    public Integer getHttpConnectTimeout() {
+        return httpConnectTimeout;
+    }
+
+    /**
+     * @return The time in milliseconds the HTTP driver waits for data on an established connection, {@literal null}
+     * if not limited
+     * @since 3.2
+     */
+    public Integer getHttpSocketTimeout() {
+        return httpSocketTimeout;
+    }
+
+    /**
+     * @return The time in milliseconds the HTTP driver waits for a connection from its pool, {@literal null} if not
+     * limited
+     * @since 3.2
+     */
+    public Integer getHttpConnectionRequestTimeout() {
+        return httpConnectionRequestTimeout;
+    }
+
+    /**
+     * @return The time in milliseconds after which an idle pooled HTTP connection is validated before it is reused,
+     * {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer getHttpValidateAfterInactivity() {
+        return httpValidateAfterInactivity;
+    }
+
+    /**
+     * @return The time in milliseconds after which idle pooled HTTP connections are evicted, {@literal null} if not
+     * evicted
+     * @since 3.2
+     */
+    public Integer getHttpMaxIdleTime() {
+        return httpMaxIdleTime;
+    }
+
+    /**
+     * @return The time in milliseconds an HTTP connection is kept alive when the server does not say otherwise,
+     * {@literal null} if not limited
+     * @since 3.2
+     */
+    public Integer getHttpKeepAliveTime() {
+        return httpKeepAliveTime;
+    }
+
+    /**
+     * @return The number of attempts the HTTP driver makes to send a request, {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer getHttpRetryMaxAttempts() {
+        return httpRetryMaxAttempts;
+    }
+
+    /**
+     * @return The time in milliseconds the HTTP driver waits before the first retry, {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer getHttpRetryInitialBackoff() {
+        return httpRetryInitialBackoff;
+    }
+
+    /**
+     * @return The maximum time in milliseconds the HTTP driver waits between retries, {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer getHttpRetryMaxBackoff() {
+        return httpRetryMaxBackoff;
+    }
+
+    /**
+     * @return The relative jitter applied to the time between retries of the HTTP driver, {@literal null} for the
+     * default
+     * @since 3.2
+     */
+    public Double getHttpRetryJitter() {
+        return httpRetryJitter;
+    }
+
+    /**
+     * @return The HTTP status codes for which the HTTP driver retries a request, {@literal null} for the default
+     * @since 3.2
+     */
+    public Integer[] getHttpRetryStatusCodes() {
+        return httpRetryStatusCodes;
+    }
+
+    /**
+     * @return The names of the exceptions for which the HTTP driver retries a request, {@literal null} for the default
+     * @since 3.2
+     */
+    public String[] getHttpRetryExceptions() {
+        return httpRetryExceptions;
+    }
+
+    /**
+     * @return The number of consecutive failed requests opening the circuit breaker of the HTTP driver, {@literal null}
+     * for the default
+     * @since 3.2
+     */
+    public Integer getHttpCircuitBreakerThreshold() {
+        return httpCircuitBreakerThreshold;
+    }
+
+    /**
+     * @return The time in milliseconds the circuit breaker of the HTTP driver stays open, {@literal null} for the
+     * default
+     * @since 3.2
+     */
+    public Integer getHttpCircuitBreakerOpenTime() {
+        return httpCircuitBreakerOpenTime;
+    }
+
+    /**
+     * @return True if the embedded driver writes new nodes and relationships without Cypher, {@literal null} if not
+     * configured
+     * @since 3.2
+     */
+    public Boolean getEmbeddedBulkWrite() {
+        return embeddedBulkWrite;
+    }
+
     public String[] getBasePackages() {
         return basePackages;
     }
@@ -264,6 +465,25 @@ public class Configuration {
             Objects.equals(connectionLivenessCheckTimeout, that.connectionLivenessCheckTimeout) &&
             Objects.equals(verifyConnection, that.verifyConnection) &&
             Objects.equals(useNativeTypes, that.useNativeTypes) &&
+            Objects.equals(slowQueryThreshold, that.slowQueryThreshold) &&
+            Objects.equals(maxResultRows, that.maxResultRows) &&
+            Objects.equals(maxHydratedEntities, that.maxHydratedEntities) &&
+            Objects.equals(maxTransactionRetryTime, that.maxTransactionRetryTime) &&
+            Objects.equals(httpConnectTimeout, that.httpConnectTimeout) &&
+            Objects.equals(httpSocketTimeout, that.httpSocketTimeout) &&
+            Objects.equals(httpConnectionRequestTimeout, that.httpConnectionRequestTimeout) &&
+            Objects.equals(httpValidateAfterInactivity, that.httpValidateAfterInactivity) &&
+            Objects.equals(httpMaxIdleTime, that.httpMaxIdleTime) &&
+            Objects.equals(httpKeepAliveTime, that.httpKeepAliveTime) &&
+            Objects.equals(httpRetryMaxAttempts, that.httpRetryMaxAttempts) &&
+            Objects.equals(httpRetryInitialBackoff, that.httpRetryInitialBackoff) &&
+            Objects.equals(httpRetryMaxBackoff, that.httpRetryMaxBackoff) &&
+            Objects.equals(httpRetryJitter, that.httpRetryJitter) &&
+            Arrays.equals(httpRetryStatusCodes, that.httpRetryStatusCodes) &&
+            Arrays.equals(httpRetryExceptions, that.httpRetryExceptions) &&
+            Objects.equals(httpCircuitBreakerThreshold, that.httpCircuitBreakerThreshold) &&
+            Objects.equals(httpCircuitBreakerOpenTime, that.httpCircuitBreakerOpenTime) &&
+            Objects.equals(embeddedBulkWrite, that.embeddedBulkWrite) &&
             Arrays.equals(basePackages, that.basePackages);
     }
 
@@ -271,9 +491,15 @@ public class Configuration {
     public int hashCode() {
         int result = Objects.hash(uri, connectionPoolSize, encryptionLevel, trustStrategy, trustCertFile, autoIndex,
             generatedIndexesOutputDir, generatedIndexesOutputFilename, neo4jConfLocation, driverName, credentials,
-            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes);
+            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes, slowQueryThreshold, maxResultRows,
+            maxHydratedEntities, maxTransactionRetryTime, httpConnectTimeout, httpSocketTimeout,
+            httpConnectionRequestTimeout, httpValidateAfterInactivity, httpMaxIdleTime, httpKeepAliveTime,
+            httpRetryMaxAttempts, httpRetryInitialBackoff, httpRetryMaxBackoff, httpRetryJitter,
+            httpCircuitBreakerThreshold, httpCircuitBreakerOpenTime, embeddedBulkWrite);
         result = 31 * result + Arrays.hashCode(uris);
         result = 31 * result + Arrays.hashCode(basePackages);
+        result = 31 * result + Arrays.hashCode(httpRetryStatusCodes);
+        result = 31 * result + Arrays.hashCode(httpRetryExceptions);
         return result;
     }
 
@@ -300,6 +526,25 @@ public class Configuration {
         private static final String NEO4J_CONF_LOCATION = "neo4j.conf.location";
         private static final String USE_NATIVE_TYPES = "use-native-types";
         private static final String BASE_PACKAGES = "base-packages";
+        private static final String SLOW_QUERY_THRESHOLD = "slow-query.threshold";
+        private static final String MAX_RESULT_ROWS = "result-limit.rows";
+        private static final String MAX_HYDRATED_ENTITIES = "result-limit.entities";
+        private static final String MAX_TRANSACTION_RETRY_TIME = "transaction.max-retry-time";
+        private static final String HTTP_CONNECT_TIMEOUT = "http.connect-timeout";
+        private static final String HTTP_SOCKET_TIMEOUT = "http.socket-timeout";
+        private static final String HTTP_CONNECTION_REQUEST_TIMEOUT = "http.connection-request-timeout";
+        private static final String HTTP_VALIDATE_AFTER_INACTIVITY = "http.validate-after-inactivity";
+        private static final String HTTP_MAX_IDLE_TIME = "http.max-idle-time";
+        private static final String HTTP_KEEP_ALIVE_TIME = "http.keep-alive-time";
+        private static final String HTTP_RETRY_MAX_ATTEMPTS = "http.retry.max-attempts";
+        private static final String HTTP_RETRY_INITIAL_BACKOFF = "http.retry.initial-backoff";
+        private static final String HTTP_RETRY_MAX_BACKOFF = "http.retry.max-backoff";
+        private static final String HTTP_RETRY_JITTER = "http.retry.jitter";
+        private static final String HTTP_RETRY_STATUS_CODES = "http.retry.status-codes";
+        private static final String HTTP_RETRY_EXCEPTIONS = "http.retry.exceptions";
+        private static final String HTTP_CIRCUIT_BREAKER_THRESHOLD = "http.circuit-breaker.threshold";
+        private static final String HTTP_CIRCUIT_BREAKER_OPEN_TIME = "http.circuit-breaker.open-time";
+        private static final String EMBEDDED_BULK_WRITE = "embedded.bulk-write";
         private String uri;
         private String[] uris;
         private Integer connectionPoolSize;
@@ -315,6 +560,25 @@ public class Configuration {
         private String username;
         private String password;
         private boolean useNativeTypes;
+        private Integer slowQueryThreshold;
+        private Integer maxResultRows;
+        private Integer maxHydratedEntities;
+        private Integer maxTransactionRetryTime;
+        private Integer httpConnectTimeout;
+        private Integer httpSocketTimeout;
+        private Integer httpConnectionRequestTimeout;
+        private Integer httpValidateAfterInactivity;
+        private Integer httpMaxIdleTime;
+        private Integer httpKeepAliveTime;
+        private Integer httpRetryMaxAttempts;
+        private Integer httpRetryInitialBackoff;
+        private Integer httpRetryMaxBackoff;
+        private Double httpRetryJitter;
+        private Integer[] httpRetryStatusCodes;
+        private String[] httpRetryExceptions;
+        private Integer httpCircuitBreakerThreshold;
+        private Integer httpCircuitBreakerOpenTime;
+        private Boolean embeddedBulkWrite;
         private Map<String, Object> customProperties = new HashMap<>();
         private String[] basePackages;
         /**
@@ -380,6 +644,65 @@ public class Configuration {
                     case BASE_PACKAGES:
                         this.basePackages = splitValue(entry.getValue());
                         break;
+                    case SLOW_QUERY_THRESHOLD:
+                        this.slowQueryThreshold = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case MAX_RESULT_ROWS:
+                        this.maxResultRows = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case MAX_HYDRATED_ENTITIES:
+                        this.maxHydratedEntities = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case MAX_TRANSACTION_RETRY_TIME:
+                        this.maxTransactionRetryTime = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_CONNECT_TIMEOUT:
+                        this.httpConnectTimeout = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_SOCKET_TIMEOUT:
+                        this.httpSocketTimeout = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_CONNECTION_REQUEST_TIMEOUT:
+                        this.httpConnectionRequestTimeout = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_VALIDATE_AFTER_INACTIVITY:
+                        this.httpValidateAfterInactivity = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_MAX_IDLE_TIME:
+                        this.httpMaxIdleTime = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_KEEP_ALIVE_TIME:
+                        this.httpKeepAliveTime = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RETRY_MAX_ATTEMPTS:
+                        this.httpRetryMaxAttempts = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RETRY_INITIAL_BACKOFF:
+                        this.httpRetryInitialBackoff = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RETRY_MAX_BACKOFF:
+                        this.httpRetryMaxBackoff = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RETRY_JITTER:
+                        this.httpRetryJitter = Double.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_RETRY_STATUS_CODES:
+                        this.httpRetryStatusCodes = Arrays.stream(splitValue(entry.getValue()))
+                            .map(Integer::valueOf)
+                            .toArray(Integer[]::new);
+                        break;
+                    case HTTP_RETRY_EXCEPTIONS:
+                        this.httpRetryExceptions = splitValue(entry.getValue());
+                        break;
+                    case HTTP_CIRCUIT_BREAKER_THRESHOLD:
+                        this.httpCircuitBreakerThreshold = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_CIRCUIT_BREAKER_OPEN_TIME:
+                        this.httpCircuitBreakerOpenTime = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case EMBEDDED_BULK_WRITE:
+                        this.embeddedBulkWrite = Boolean.valueOf((String) entry.getValue());
+                        break;
                     default:
                         LOGGER.warn("Could not process property with key: {}", entry.getKey());
                 }
@@ -399,6 +722,25 @@ public class Configuration {
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
                 .generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
                 .neo4jConfLocation(builder.neo4jConfLocation)
+                .slowQueryThreshold(builder.slowQueryThreshold)
+                .maxResultRows(builder.maxResultRows)
+                .maxHydratedEntities(builder.maxHydratedEntities)
+                .maxTransactionRetryTime(builder.maxTransactionRetryTime)
+                .httpConnectTimeout(builder.httpConnectTimeout)
+                .httpSocketTimeout(builder.httpSocketTimeout)
+                .httpConnectionRequestTimeout(builder.httpConnectionRequestTimeout)
+                .httpValidateAfterInactivity(builder.httpValidateAfterInactivity)
+                .httpMaxIdleTime(builder.httpMaxIdleTime)
+                .httpKeepAliveTime(builder.httpKeepAliveTime)
+                .httpRetryMaxAttempts(builder.httpRetryMaxAttempts)
+                .httpRetryInitialBackoff(builder.httpRetryInitialBackoff)
+                .httpRetryMaxBackoff(builder.httpRetryMaxBackoff)
+                .httpRetryJitter(builder.httpRetryJitter)
+                .httpRetryStatusCodes(builder.httpRetryStatusCodes)
+                .httpRetryExceptions(builder.httpRetryExceptions)
+                .httpCircuitBreakerThreshold(builder.httpCircuitBreakerThreshold)
+                .httpCircuitBreakerOpenTime(builder.httpCircuitBreakerOpenTime)
+                .embeddedBulkWrite(builder.embeddedBulkWrite)
                 .credentials(builder.username, builder.password)
                 .customProperties(new HashMap<>(builder.customProperties));
         }
@@ -556,6 +898,253 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Logs all queries whose execution and retrieval of results took longer than the given threshold, together with
+         * the shapes of their parameters and their timings.
+         *
+         * @param slowQueryThreshold threshold in milliseconds, {@literal null} to not log slow queries
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder slowQueryThreshold(Integer slowQueryThreshold) {
+            this.slowQueryThreshold = slowQueryThreshold;
+            return this;
+        }
+
+        /**
+         * Limits the number of rows a single session operation like {@code loadAll} or {@code query} may read. An
+         * operation exceeding the limit is aborted with a {@code ResultSizeExceededException} while reading the result.
+         *
+         * @param maxResultRows maximum number of rows, {@literal null} for no limit
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder maxResultRows(Integer maxResultRows) {
+            this.maxResultRows = maxResultRows;
+            return this;
+        }
+
+        /**
+         * Limits the number of entities a single session operation may hydrate. Entities already present in the session
+         * are not counted. An operation exceeding the limit is aborted with a {@code ResultSizeExceededException} while
+         * mapping the result.
+         *
+         * @param maxHydratedEntities maximum number of entities, {@literal null} for no limit
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder maxHydratedEntities(Integer maxHydratedEntities) {
+            this.maxHydratedEntities = maxHydratedEntities;
+            return this;
+        }
+
+        /**
+         * Sets the time for which {@code Session.readTransaction} and {@code Session.writeTransaction} retry a unit of
+         * work failing with a transient error. Retries are delayed with an exponential backoff. Defaults to 30 seconds.
+         *
+         * @param maxTransactionRetryTime time in milliseconds, 0 to disable retries
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder maxTransactionRetryTime(Integer maxTransactionRetryTime) {
+            this.maxTransactionRetryTime = maxTransactionRetryTime;
+            return this;
+        }
+
+        /**
+         * Sets the time the HTTP driver waits for a connection to the server to be established. Not limited by
+         * default.
+         *
+         * @param httpConnectTimeout time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpConnectTimeout(Integer httpConnectTimeout) {
+            this.httpConnectTimeout = httpConnectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time the HTTP driver waits for data on an established connection. Not limited by default.
+         *
+         * @param httpSocketTimeout time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpSocketTimeout(Integer httpSocketTimeout) {
+            this.httpSocketTimeout = httpSocketTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time the HTTP driver waits for a connection from its pool when all connections are leased. Not
+         * limited by default.
+         *
+         * @param httpConnectionRequestTimeout time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpConnectionRequestTimeout(Integer httpConnectionRequestTimeout) {
+            this.httpConnectionRequestTimeout = httpConnectionRequestTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time after which an idle pooled HTTP connection is validated before it is reused, so that
+         * connections closed by the server or a proxy are not handed out. Defaults to 2 seconds.
+         *
+         * @param httpValidateAfterInactivity time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpValidateAfterInactivity(Integer httpValidateAfterInactivity) {
+            this.httpValidateAfterInactivity = httpValidateAfterInactivity;
+            return this;
+        }
+
+        /**
+         * Sets the time after which idle pooled HTTP connections are closed by a background evictor, which also closes
+         * expired connections. Connections are not evicted by default.
+         *
+         * @param httpMaxIdleTime time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpMaxIdleTime(Integer httpMaxIdleTime) {
+            this.httpMaxIdleTime = httpMaxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets the time an HTTP connection is kept alive in the pool when the server does not send a
+         * {@code Keep-Alive} header. Connections are kept alive indefinitely by default.
+         *
+         * @param httpKeepAliveTime time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpKeepAliveTime(Integer httpKeepAliveTime) {
+            this.httpKeepAliveTime = httpKeepAliveTime;
+            return this;
+        }
+
+        /**
+         * Sets the number of attempts the HTTP driver makes to send a request failing with a retryable error, including
+         * the first attempt. Defaults to 3, 1 disables retries.
+         *
+         * @param httpRetryMaxAttempts number of attempts
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryMaxAttempts(Integer httpRetryMaxAttempts) {
+            this.httpRetryMaxAttempts = httpRetryMaxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the time the HTTP driver waits before the first retry of a request. The time doubles with each further
+         * retry. Defaults to 200 milliseconds.
+         *
+         * @param httpRetryInitialBackoff time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryInitialBackoff(Integer httpRetryInitialBackoff) {
+            this.httpRetryInitialBackoff = httpRetryInitialBackoff;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time the HTTP driver waits between two attempts of a request. Defaults to 2 seconds.
+         *
+         * @param httpRetryMaxBackoff time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryMaxBackoff(Integer httpRetryMaxBackoff) {
+            this.httpRetryMaxBackoff = httpRetryMaxBackoff;
+            return this;
+        }
+
+        /**
+         * Sets the relative jitter applied to the time between retries, so that requests failing together are not
+         * retried together. Defaults to 0.2, which varies the time by up to 20 percent in either direction.
+         *
+         * @param httpRetryJitter jitter between 0 and 1
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryJitter(Double httpRetryJitter) {
+            this.httpRetryJitter = httpRetryJitter;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP status codes for which a request is retried. Defaults to 503 (service unavailable).
+         *
+         * @param httpRetryStatusCodes the status codes
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryStatusCodes(Integer... httpRetryStatusCodes) {
+            this.httpRetryStatusCodes = httpRetryStatusCodes;
+            return this;
+        }
+
+        /**
+         * Sets the fully qualified class names of the I/O exceptions for which a request is retried. Defaults to the
+         * exceptions thrown when a connection can't be established or the server closes it without a response.
+         *
+         * @param httpRetryExceptions the class names
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpRetryExceptions(String... httpRetryExceptions) {
+            this.httpRetryExceptions = httpRetryExceptions;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive requests failing with a retryable error after all attempts which opens the
+         * circuit breaker of the HTTP driver. While the breaker is open, requests fail immediately. Defaults to 5, 0
+         * disables the breaker.
+         *
+         * @param httpCircuitBreakerThreshold number of failed requests
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpCircuitBreakerThreshold(Integer httpCircuitBreakerThreshold) {
+            this.httpCircuitBreakerThreshold = httpCircuitBreakerThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the time the circuit breaker of the HTTP driver stays open before requests are sent again. Defaults to
+         * 10 seconds.
+         *
+         * @param httpCircuitBreakerOpenTime time in milliseconds
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder httpCircuitBreakerOpenTime(Integer httpCircuitBreakerOpenTime) {
+            this.httpCircuitBreakerOpenTime = httpCircuitBreakerOpenTime;
+            return this;
+        }
+
+        /**
+         * Lets the embedded driver create new nodes and relationships of a save through the core API of the database
+         * instead of Cypher statements. This is meant for building large graphs from scratch, as it saves generating,
+         * parsing and planning statements. Updates and deletes still run as Cypher.
+         *
+         * @param embeddedBulkWrite true to write new nodes and relationships without Cypher, default is false
+         * @return the changed builder
+         * @since 3.2
+         */
+        public Builder embeddedBulkWrite(Boolean embeddedBulkWrite) {
+            this.embeddedBulkWrite = embeddedBulkWrite;
+            return this;
+        }
+
         /**
          * Creates a new builder with a list of base packages to scan.
          *
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+/**
+ * A snapshot of the utilisation of the connection pool of a driver.
+ *
+ * @since 3.2
+ */
+public final class ConnectionPoolStatistics {
+
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+
+    /**
+     * @param leased    The number of connections in use
+     * @param pending   The number of requests waiting for a connection
+     * @param available The number of idle connections
+     * @param max       The maximum number of connections
+     */
+    public ConnectionPoolStatistics(int leased, int pending, int available, int max) {
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+    }
+
+    public int getLeased() {
+        return leased;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{" +
+            "leased=" + leased +
+            ", pending=" + pending +
+            ", available=" + available +
+            ", max=" + max +
+            '}';
+    }
+}
@@ -86,6 +86,17 @@ public interface Driver extends AutoCloseable {
         return e -> e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
     }
 
+    /**
+     * Returns the current utilisation of the connection pool of this driver, which is reported to the metrics
+     * listeners of the sessions after each operation.
+     *
+     * @return Statistics of the connection pool, {@literal null} if the driver has no pool or does not expose it
+     * @since 3.2
+     */
+    default ConnectionPoolStatistics getConnectionPoolStatistics() {
+        return null;
+    }
+
     /**
      * Unwraps this Neo4j-OGM specific driver into it's underlying physical driver of type {@code T} if the concrete driver's
      * transport is compatible with the speficied class.
@@ -22,6 +22,7 @@ import static java.util.Collections.*;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -33,6 +34,12 @@ import java.util.function.Function;
 public final class TypeAdapterLookupDelegate {
     private final Map<Class<?>, Function> registeredTypeAdapter;
 
+    /**
+     * Whether an adapter has been registered for a given class or one of its supertypes. This is checked per converted
+     * parameter value, for values without an adapter as well.
+     */
+    private final Map<Class<?>, Boolean> resolvedAdapterPresence = new ConcurrentHashMap<>();
+
     public TypeAdapterLookupDelegate(Map<Class<?>, Function> registeredTypeAdapter) {
 
         this.registeredTypeAdapter = unmodifiableMap(registeredTypeAdapter);
@@ -51,7 +58,7 @@ public final class TypeAdapterLookupDelegate {
     }
 
     public boolean hasAdapterFor(Class<?> clazz) {
-        return findAdapterFor(clazz).isPresent();
+        return resolvedAdapterPresence.computeIfAbsent(clazz, key -> findAdapterFor(key).isPresent());
     }
 
     private Optional<Function<Object, Object>> findAdapterFor(Class<?> clazz) {
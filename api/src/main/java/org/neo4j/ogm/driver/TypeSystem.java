@@ -36,6 +36,14 @@ public interface TypeSystem {
         return false;
     }
 
+    /**
+     * @param value A value about to be passed to the driver, not null
+     * @return True if the value already is in the representation of the driver and must be passed on unchanged
+     */
+    default boolean isNativeValue(Object value) {
+        return false;
+    }
+
     /**
      * @param clazz
      * @return An adapter function that can map native objects of the given class to a mapped type
@@ -53,6 +53,9 @@ class TypeSystemBasedParameterConversion implements ParameterConversion {
 
             if (unconvertedValue == null) {
                 convertedParameter.put(parameterKey, null);
+            } else if (typeSystem.isNativeValue(unconvertedValue)) {
+                // Already turned into the representation of the driver, for example when read from an entity
+                convertedParameter.put(parameterKey, unconvertedValue);
             } else if (unconvertedValue instanceof List) {
                 convertedParameter.put(parameterKey, convertListItems((List) unconvertedValue));
             } else if (unconvertedValue.getClass().isArray()) {
@@ -90,7 +93,9 @@ class TypeSystemBasedParameterConversion implements ParameterConversion {
     }
 
     private Object convertSingle(Object value) {
-        if (typeSystem.supportsAsNativeType(value.getClass())) {
+        if (typeSystem.isNativeValue(value)) {
+            return value;
+        } else if (typeSystem.supportsAsNativeType(value.getClass())) {
             return typeSystem.getMappedToNativeTypeAdapter(value.getClass()).apply(value);
         } else {
             String fixedKey = "u";
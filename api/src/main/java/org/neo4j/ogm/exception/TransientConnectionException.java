@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.exception;
+
+/**
+ * Exception thrown if the connection to the Neo4j database failed in a way that may go away when trying again, like
+ * an unavailable server, a cluster leader switch or a request without response. Connection failures not caused by the
+ * transport, like failed authentication, are reported with a plain {@link ConnectionException}.
+ */
+public class TransientConnectionException extends ConnectionException {
+
+    public TransientConnectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
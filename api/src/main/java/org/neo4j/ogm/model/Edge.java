@@ -18,7 +18,10 @@
  */
 package org.neo4j.ogm.model;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author vince
@@ -33,6 +36,20 @@ public interface Edge extends PropertyContainer {
 
     List<Property<String, Object>> getPropertyList();
 
+    /**
+     * Returns the properties of this relationship as a read only map. Implementations holding their properties already as a
+     * map should return them without creating intermediate {@link Property} instances.
+     *
+     * @return The properties of this relationship, keyed by name
+     */
+    default Map<String, Object> getPropertyMap() {
+        Map<String, Object> propertyMap = new HashMap<>();
+        for (Property<String, Object> property : getPropertyList()) {
+            propertyMap.put(property.getKey(), property.getValue());
+        }
+        return Collections.unmodifiableMap(propertyMap);
+    }
+
     /**
      * Returns name of the primary id property (property annotated with @Id)
      */
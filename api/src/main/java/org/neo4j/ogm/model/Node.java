@@ -18,7 +18,10 @@
  */
 package org.neo4j.ogm.model;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -32,6 +35,20 @@ public interface Node extends PropertyContainer {
 
     List<Property<String, Object>> getPropertyList();
 
+    /**
+     * Returns the properties of this node as a read only map. Implementations holding their properties already as a
+     * map should return them without creating intermediate {@link Property} instances.
+     *
+     * @return The properties of this node, keyed by name
+     */
+    default Map<String, Object> getPropertyMap() {
+        Map<String, Object> propertyMap = new HashMap<>();
+        for (Property<String, Object> property : getPropertyList()) {
+            propertyMap.put(property.getKey(), property.getValue());
+        }
+        return Collections.unmodifiableMap(propertyMap);
+    }
+
     String getPrimaryIndex();
 
     /**
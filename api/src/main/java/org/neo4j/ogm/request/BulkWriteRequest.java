@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.request;
+
+import java.util.List;
+
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+
+/**
+ * A request creating nodes and relationships without Cypher. Such requests are only sent to requests implementing
+ * {@link BulkWriteRequestHandler}.
+ * <p>
+ * Nodes with a primary index are merged on it, relationships without properties or with a primary id are merged, too,
+ * like the statements for new nodes and relationships do. The response has a row with the columns {@code ref},
+ * {@code id} and {@code type} ({@code node} or {@code rel}) for each node and relationship written.
+ */
+public interface BulkWriteRequest {
+
+    /**
+     * @return The nodes to create, identified by their (negative) reference
+     */
+    List<Node> getNodes();
+
+    /**
+     * @return The relationships to create. Their start and end nodes are either ids of existing nodes or references
+     * of nodes of this request.
+     */
+    List<Edge> getRelationships();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.request;
+
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A {@link Request} that can also create nodes and relationships without Cypher. Only the requests of drivers
+ * configured for bulk writes implement it.
+ *
+ * @since 3.2
+ */
+public interface BulkWriteRequestHandler extends Request {
+
+    /**
+     * Creates the nodes and relationships of the given request without Cypher.
+     *
+     * @param request The nodes and relationships to create
+     * @return A response with the ids of the created nodes and relationships
+     */
+    Response<RowModel> execute(BulkWriteRequest request);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.request;
+
+/**
+ * A {@link GraphModelRequest} loading a single node by its native id or primary index, optionally together with its
+ * direct relationships and neighbours. Drivers with direct access to the database may answer it through the core API
+ * instead of running its statement. The statement is always present and returns the same graph.
+ * <p>
+ * The accessors are deliberately not named like bean properties, as statements are serialized as they are by the HTTP
+ * driver.
+ */
+public interface NodeByIdRequest extends GraphModelRequest {
+
+    /**
+     * @return The label the node must have, may be null or empty if any node qualifies
+     */
+    String label();
+
+    /**
+     * @return The property of the primary index, null if the node is loaded by its native id
+     */
+    String primaryIndex();
+
+    /**
+     * @return The native id or the value of the primary index of the node
+     */
+    Object id();
+
+    /**
+     * @return 0 to load the node only, 1 to load its relationships and neighbours, too
+     */
+    int depth();
+}
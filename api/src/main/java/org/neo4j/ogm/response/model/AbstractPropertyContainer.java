@@ -18,12 +18,17 @@
  */
 package org.neo4j.ogm.response.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.model.PropertyContainer;
 
 /**
@@ -66,4 +71,22 @@ abstract class AbstractPropertyContainer implements PropertyContainer {
             .map(s -> String.format("%s.`%s`", variable, s))
             .collect(Collectors.joining(",", " REMOVE ", " "));
     }
+
+    static List<Property<String, Object>> toPropertyList(Map<String, Object> propertyMap) {
+
+        List<Property<String, Object>> propertyList = new ArrayList<>(propertyMap.size());
+        for (Map.Entry<String, Object> entry : propertyMap.entrySet()) {
+            propertyList.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
+        }
+        return propertyList;
+    }
+
+    static Map<String, Object> toPropertyMap(List<Property<String, Object>> propertyList) {
+
+        Map<String, Object> propertyMap = new LinkedHashMap<>(propertyList.size() * 4 / 3 + 1);
+        for (Property<String, Object> property : propertyList) {
+            propertyMap.put(property.getKey(), property.getValue());
+        }
+        return Collections.unmodifiableMap(propertyMap);
+    }
 }
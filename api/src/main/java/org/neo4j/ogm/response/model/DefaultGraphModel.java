@@ -68,6 +68,14 @@ public class DefaultGraphModel implements GraphModel {
         }
     }
 
+    public boolean containsNode(long nodeId) {
+        return nodes.containsKey(nodeId);
+    }
+
+    public boolean containsRelationship(long relationshipId) {
+        return relationships.containsKey(relationshipId);
+    }
+
     public Optional<Node> findNode(Long nodeId) {
 
         return Optional.ofNullable(nodes.get(nodeId));
@@ -44,6 +44,11 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
     private final Long id;
     private Property<String, Long> version;
     private String[] labels;
+    /**
+     * Properties as adapted from the driver. They are used directly until someone asks for the property list, which is
+     * then created once and becomes the only source of truth, as it may be modified.
+     */
+    private Map<String, Object> propertyMap;
     private List<Property<String, Object>> properties = new ArrayList<>();
     private String primaryIndex;
     /** Flag, if this node has been generated through pattern comprehension. */
@@ -68,9 +73,18 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
 
     @Override
     public List<Property<String, Object>> getPropertyList() {
+        if (properties == null) {
+            properties = toPropertyList(propertyMap);
+            propertyMap = null;
+        }
         return properties;
     }
 
+    @Override
+    public Map<String, Object> getPropertyMap() {
+        return propertyMap == null ? toPropertyMap(properties) : Collections.unmodifiableMap(propertyMap);
+    }
+
     @Override
     public String getPrimaryIndex() {
         return primaryIndex;
@@ -81,10 +95,8 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
     }
 
     public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
+        this.propertyMap = properties;
+        this.properties = null;
     }
 
     @Override
@@ -125,6 +137,9 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
     }
 
     public Object property(String key) {
+        if (propertyMap != null) {
+            return propertyMap.get(key);
+        }
         for (Property property : properties) {
             if (property.getKey().equals(key)) {
                 return property.getValue();
@@ -19,6 +19,7 @@
 package org.neo4j.ogm.response.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,11 @@ public class RelationshipModel extends AbstractPropertyContainer implements Edge
     private String type;
     private Long startNode;
     private Long endNode;
+    /**
+     * Properties as adapted from the driver. They are used directly until someone asks for the property list, which is
+     * then created once and becomes the only source of truth, as it may be modified.
+     */
+    private Map<String, Object> propertyMap;
     private List<Property<String, Object>> properties = new ArrayList<>();
     private String primaryIdName;
 
@@ -85,19 +91,26 @@ public class RelationshipModel extends AbstractPropertyContainer implements Edge
     }
 
     public List<Property<String, Object>> getPropertyList() {
+        if (properties == null) {
+            properties = toPropertyList(propertyMap);
+            propertyMap = null;
+        }
         return properties;
     }
 
+    @Override
+    public Map<String, Object> getPropertyMap() {
+        return propertyMap == null ? toPropertyMap(properties) : Collections.unmodifiableMap(propertyMap);
+    }
+
     @Override
     public String getPrimaryIdName() {
         return primaryIdName;
     }
 
     public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
+        this.propertyMap = properties;
+        this.properties = null;
     }
 
     public void setPrimaryIdName(String primaryIdPropertyName) {
@@ -21,19 +21,31 @@ package org.neo4j.ogm.result.adapter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.neo4j.ogm.support.PrimitiveArrayList;
+
 /**
  * @author Frantisek Hartman
  */
 public class BaseAdapter {
 
+    /**
+     * Converts all array values of the given properties into iterables. Arrays of primitives are wrapped without boxing
+     * their elements. The properties are only copied if they actually contain an array, otherwise the given map is
+     * returned as is.
+     *
+     * @param properties The properties as retrieved from the driver
+     * @return Properties without array values
+     */
     public Map<String, Object> convertArrayPropertiesToIterable(Map<String, Object> properties) {
-        Map<String, Object> props = new HashMap<>();
-        for (String k : properties.keySet()) {
-            Object v = properties.get(k);
-            if (v.getClass().isArray()) {
-                props.put(k, AdapterUtils.convertToIterable(v));
-            } else {
-                props.put(k, v);
+        Map<String, Object> props = properties;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            Object v = entry.getValue();
+            if (v != null && v.getClass().isArray()) {
+                if (props == properties) {
+                    props = new HashMap<>(properties);
+                }
+                props.put(entry.getKey(), v.getClass().getComponentType().isPrimitive() ?
+                    new PrimitiveArrayList(v) : AdapterUtils.convertToIterable(v));
             }
         }
         return props;
@@ -18,11 +18,10 @@
  */
 package org.neo4j.ogm.result.adapter;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
@@ -31,12 +30,20 @@ import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
  * This adapter will transform an embedded response into a json response
+ * <p>
+ * An adapter is meant to be used for a single response. Nodes and relationships are built only once per response,
+ * rows containing a node or relationship that has already been built share the existing model.
+ * This saves building and mapping repeated nodes, the database still returns them with every row.
  *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class GraphModelAdapter extends BaseAdapter implements ResultAdapter<Map<String, Object>, GraphModel> {
 
+    private final Map<Long, NodeModel> builtNodes = new HashMap<>();
+    private final Map<Long, NodeModel> builtGeneratedNodes = new HashMap<>();
+    private final Map<Long, RelationshipModel> builtRelationships = new HashMap<>();
+
     /**
      * Parses a row from the result object and transforms it into a GraphModel
      *
@@ -46,11 +53,6 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
     @Override
     public GraphModel adapt(Map<String, Object> data) {
 
-        // These two sets keep track of which nodes and edges have already been built, so we don't redundantly
-        // write the same node or relationship entity many times.
-        final Set<Long> nodeIdentities = new HashSet<>();
-        final Set<Long> edgeIdentities = new HashSet<>();
-
         DefaultGraphModel graphModel = new DefaultGraphModel();
 
         for (Map.Entry<String, Object> mapEntry : data.entrySet()) {
@@ -59,76 +61,86 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
             String resultKey = mapEntry.getKey();
             boolean generatedNodes = AdapterUtils.describesGeneratedNode(resultKey);
 
-            adaptInternal(nodeIdentities, edgeIdentities, graphModel, value, generatedNodes);
+            adaptInternal(graphModel, value, generatedNodes);
         }
 
         return graphModel;
     }
 
-    private void adaptInternal(Set<Long> nodeIdentities, Set<Long> edgeIdentities, DefaultGraphModel graphModel,
-        Object value, boolean generatedNodes) {
+    private void adaptInternal(DefaultGraphModel graphModel, Object value, boolean generatedNodes) {
         if (isPath(value)) {
-            buildPath(value, graphModel, nodeIdentities, edgeIdentities, generatedNodes);
+            buildPath(value, graphModel, generatedNodes);
         } else if (isNode(value)) {
-            buildNode(value, graphModel, nodeIdentities, generatedNodes);
+            buildNode(value, graphModel, generatedNodes);
         } else if (isRelationship(value)) {
-            buildRelationship(value, graphModel, edgeIdentities);
+            buildRelationship(value, graphModel);
         } else if (value instanceof Iterable) {
             Iterable collection = (Iterable) value;
             for (Object element : collection) {
-                adaptInternal(nodeIdentities, edgeIdentities, graphModel, element, generatedNodes);
+                adaptInternal(graphModel, element, generatedNodes);
             }
         }
     }
 
-    void buildPath(Object path, DefaultGraphModel graphModel, Set nodeIdentities, Set edgeIdentities,
-        boolean generatedNodes) {
+    void buildPath(Object path, DefaultGraphModel graphModel, boolean generatedNodes) {
 
         Iterator<Object> relIterator = relsInPath(path).iterator();
         Iterator<Object> nodeIterator = nodesInPath(path).iterator();
 
         while (relIterator.hasNext()) {
-            buildRelationship(relIterator.next(), graphModel, edgeIdentities);
+            buildRelationship(relIterator.next(), graphModel);
         }
 
         while (nodeIterator.hasNext()) {
-            buildNode(nodeIterator.next(), graphModel, nodeIdentities, generatedNodes);
+            buildNode(nodeIterator.next(), graphModel, generatedNodes);
         }
     }
 
-    void buildNode(Object node, DefaultGraphModel graphModel, Set<Long> nodeIdentities, boolean generatedNode) {
+    /**
+     * Builds a node and adds it to the graph model. The graph model itself keeps track of which nodes have already been
+     * added, so we don't redundantly add the same node many times. Nodes already built for a previous row are reused,
+     * as long as they have been generated the same way.
+     */
+    void buildNode(Object node, DefaultGraphModel graphModel, boolean generatedNode) {
 
         long nativeId = nodeId(node);
-        if (nodeIdentities.contains(nativeId)) {
+        if (graphModel.containsNode(nativeId)) {
             return;
         }
 
-        nodeIdentities.add(nativeId);
-
-        NodeModel nodeModel = new NodeModel(nativeId);
-        List<String> labels = labels(node);
+        Map<Long, NodeModel> built = generatedNode ? builtGeneratedNodes : builtNodes;
+        NodeModel nodeModel = built.get(nativeId);
+        if (nodeModel == null) {
+            nodeModel = new NodeModel(nativeId);
+            List<String> labels = labels(node);
 
-        nodeModel.setLabels(labels.toArray(new String[0]));
-        nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
-        nodeModel.setGeneratedNode(generatedNode);
+            nodeModel.setLabels(labels.toArray(new String[0]));
+            nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
+            nodeModel.setGeneratedNode(generatedNode);
+            built.put(nativeId, nodeModel);
+        }
 
         graphModel.addNode(nodeModel);
     }
 
-    void buildRelationship(Object relationship, DefaultGraphModel graphModel, Set<Long> edgeIdentities) {
-        if (edgeIdentities.contains(relationshipId(relationship))) {
+    void buildRelationship(Object relationship, DefaultGraphModel graphModel) {
+
+        long nativeId = relationshipId(relationship);
+        if (graphModel.containsRelationship(nativeId)) {
             return;
         }
 
-        edgeIdentities.add(relationshipId(relationship));
+        RelationshipModel edgeModel = builtRelationships.get(nativeId);
+        if (edgeModel == null) {
+            edgeModel = new RelationshipModel();
+            edgeModel.setId(nativeId);
+            edgeModel.setType(relationshipType(relationship));
+            edgeModel.setStartNode(startNodeId(relationship));
+            edgeModel.setEndNode(endNodeId(relationship));
 
-        RelationshipModel edgeModel = new RelationshipModel();
-        edgeModel.setId(relationshipId(relationship));
-        edgeModel.setType(relationshipType(relationship));
-        edgeModel.setStartNode(startNodeId(relationship));
-        edgeModel.setEndNode(endNodeId(relationship));
-
-        edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
+            edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
+            builtRelationships.put(nativeId, edgeModel);
+        }
 
         graphModel.addRelationship(edgeModel);
     }
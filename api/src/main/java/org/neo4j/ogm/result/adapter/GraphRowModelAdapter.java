@@ -20,11 +20,9 @@ package org.neo4j.ogm.result.adapter;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.model.GraphRowModel;
@@ -60,9 +58,6 @@ public class GraphRowModelAdapter implements ResultAdapter<Map<String, Object>,
             throw new ResultProcessingException("Result columns should not be null");
         }
 
-        Set<Long> nodeIdentities = new HashSet<>();
-        Set<Long> edgeIdentities = new HashSet<>();
-
         DefaultGraphModel graphModel = new DefaultGraphModel();
         List<String> variables = new ArrayList<>();
         List<Object> values = new ArrayList<>();
@@ -71,7 +66,7 @@ public class GraphRowModelAdapter implements ResultAdapter<Map<String, Object>,
         // so we use the columns information to extract them in the correct order for post-processing.
         Iterator<String> iterator = columns.iterator();
 
-        adapt(iterator, data, graphModel, variables, values, nodeIdentities, edgeIdentities);
+        adapt(iterator, data, graphModel, variables, values);
 
         DefaultRowModel rowModel = new DefaultRowModel(values.toArray(new Object[] {}),
             variables.toArray(new String[] {}));
@@ -80,7 +75,7 @@ public class GraphRowModelAdapter implements ResultAdapter<Map<String, Object>,
     }
 
     private void adapt(Iterator<String> iterator, Map<String, Object> data, DefaultGraphModel graphModel,
-        List<String> variables, List<Object> values, Set<Long> nodeIdentities, Set<Long> edgeIdentities) {
+        List<String> variables, List<Object> values) {
 
         while (iterator.hasNext()) {
 
@@ -93,26 +88,25 @@ public class GraphRowModelAdapter implements ResultAdapter<Map<String, Object>,
             if (value != null && value.getClass().isArray()) {
                 Iterable<Object> collection = AdapterUtils.convertToIterable(value);
                 for (Object element : collection) {
-                    adapt(element, graphModel, values, nodeIdentities, edgeIdentities, generatedNodes);
+                    adapt(element, graphModel, values, generatedNodes);
                 }
             } else {
-                adapt(value, graphModel, values, nodeIdentities, edgeIdentities, generatedNodes);
+                adapt(value, graphModel, values, generatedNodes);
             }
         }
     }
 
-    private void adapt(Object element, DefaultGraphModel graphModel, List<Object> values, Set<Long> nodeIdentities,
-        Set<Long> edgeIdentities, boolean generatedNodes) {
+    private void adapt(Object element, DefaultGraphModel graphModel, List<Object> values, boolean generatedNodes) {
         if (graphModelAdapter.isPath(element)) {
-            graphModelAdapter.buildPath(element, graphModel, nodeIdentities, edgeIdentities, generatedNodes);
+            graphModelAdapter.buildPath(element, graphModel, generatedNodes);
         } else if (graphModelAdapter.isNode(element)) {
-            graphModelAdapter.buildNode(element, graphModel, nodeIdentities, generatedNodes);
+            graphModelAdapter.buildNode(element, graphModel, generatedNodes);
         } else if (graphModelAdapter.isRelationship(element)) {
-            graphModelAdapter.buildRelationship(element, graphModel, edgeIdentities);
+            graphModelAdapter.buildRelationship(element, graphModel);
         } else if (Collection.class.isAssignableFrom(element.getClass())) {
             Collection collection = (Collection) element;
             for (Object value : collection) {
-                adapt(value, graphModel, values, nodeIdentities, edgeIdentities, generatedNodes);
+                adapt(value, graphModel, values, generatedNodes);
             }
         } else {
             values.add(element);
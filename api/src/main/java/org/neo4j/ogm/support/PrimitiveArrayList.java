@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list on an array of primitives. Elements are boxed on access only, which allows consumers that know about this
+ * list to work on the {@link #getArray() underlying array} directly.
+ * <p>
+ * The list can be modified like any other list, as it is handed out to converters and user code. The elements are
+ * copied into an {@link ArrayList} on the first modification, the array itself is never changed.
+ */
+public final class PrimitiveArrayList extends AbstractList<Object> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object array;
+    private List<Object> modifiedElements;
+
+    /**
+     * @param array An array of primitive values, for example a {@code double[]}
+     */
+    public PrimitiveArrayList(Object array) {
+        if (array == null || !array.getClass().isArray() || !array.getClass().getComponentType().isPrimitive()) {
+            throw new IllegalArgumentException("An array of primitive values is required.");
+        }
+        this.array = array;
+    }
+
+    /**
+     * @return The array of primitive values backing this list, which must not be modified, or null if this list has
+     * been modified and doesn't reflect the array anymore.
+     */
+    public Object getArray() {
+        return modifiedElements == null ? array : null;
+    }
+
+    @Override
+    public Object get(int index) {
+        return modifiedElements == null ? Array.get(array, index) : modifiedElements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return modifiedElements == null ? Array.getLength(array) : modifiedElements.size();
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return modifiableElements().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        modifiableElements().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        Object removed = modifiableElements().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    private List<Object> modifiableElements() {
+        if (modifiedElements == null) {
+            int length = Array.getLength(array);
+            List<Object> elements = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                elements.add(Array.get(array, i));
+            }
+            modifiedElements = elements;
+        }
+        return modifiedElements;
+    }
+}
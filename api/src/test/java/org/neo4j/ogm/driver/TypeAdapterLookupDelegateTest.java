@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class TypeAdapterLookupDelegateTest {
+
+    private final TypeAdapterLookupDelegate lookupDelegate;
+
+    public TypeAdapterLookupDelegateTest() {
+        Map<Class<?>, Function> adapters = new HashMap<>();
+        adapters.put(Number.class, number -> ((Number) number).intValue() + 1);
+        this.lookupDelegate = new TypeAdapterLookupDelegate(adapters);
+    }
+
+    @Test
+    public void shouldFindAdaptersForSubclasses() {
+        assertThat(lookupDelegate.hasAdapterFor(Long.class)).isTrue();
+        assertThat(lookupDelegate.getAdapterFor(Long.class).apply(41L)).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldFallBackToNullSafeIdentity() {
+        Function<Object, Object> adapter = lookupDelegate.getAdapterFor(String.class);
+
+        assertThat(adapter.apply("foo")).isEqualTo("foo");
+        assertThat(adapter.apply(null)).isNull();
+        assertThat(lookupDelegate.getAdapterFor(Integer.class).apply(null)).isNull();
+    }
+
+    @Test
+    public void shouldRememberMissingAdapters() {
+        assertThat(lookupDelegate.hasAdapterFor(String.class)).isFalse();
+        assertThat(lookupDelegate.hasAdapterFor(String.class)).isFalse();
+        assertThat(lookupDelegate.hasAdapterFor(Integer.class)).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class TypeSystemBasedParameterConversionTest {
+
+    private final List<Class<?>> lookedUpTypes = new ArrayList<>();
+
+    private final ParameterConversion parameterConversion = new TypeSystemBasedParameterConversion(new TypeSystem() {
+
+        @Override
+        public boolean isNativeValue(Object value) {
+            return value instanceof NativeValue;
+        }
+
+        @Override
+        public boolean supportsAsNativeType(Class<?> clazz) {
+            lookedUpTypes.add(clazz);
+            return clazz == LocalDate.class;
+        }
+
+        @Override
+        public Function<Object, Object> getMappedToNativeTypeAdapter(Class<?> clazz) {
+            return NativeValue::new;
+        }
+    });
+
+    @Test
+    public void shouldPassNativeValuesOnWithoutLookup() {
+
+        NativeValue nativeValue = new NativeValue(LocalDate.of(2019, 1, 1));
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("native", nativeValue);
+        parameters.put("nativeList", Arrays.asList(nativeValue, nativeValue));
+        parameters.put("date", LocalDate.of(2019, 1, 2));
+
+        Map<String, Object> convertedParameters = parameterConversion.convertParameters(parameters);
+
+        assertThat(convertedParameters.get("native")).isSameAs(nativeValue);
+        assertThat((List<?>) convertedParameters.get("nativeList")).containsExactly(nativeValue, nativeValue);
+        assertThat(convertedParameters.get("date")).isInstanceOf(NativeValue.class);
+        assertThat(lookedUpTypes).containsExactly(LocalDate.class);
+    }
+
+    private static class NativeValue {
+
+        private final Object value;
+
+        NativeValue(Object value) {
+            this.value = value;
+        }
+    }
+}
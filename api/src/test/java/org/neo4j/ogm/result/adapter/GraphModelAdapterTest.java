@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.result.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.model.NodeModel;
+
+public class GraphModelAdapterTest {
+
+    private final GraphModelAdapter adapter = new TestGraphModelAdapter();
+
+    @Test
+    public void shouldBuildNodesAndRelationshipsOnlyOncePerResponse() {
+        TestNode movie1 = new TestNode(1L, "Movie");
+        TestNode movie2 = new TestNode(2L, "Movie");
+        TestNode genre = new TestNode(3L, "Genre");
+
+        GraphModel row1 = adapter.adapt(row(movie1, Arrays.asList(new TestRelationship(10L, 1L, 3L), genre)));
+        GraphModel row2 = adapter.adapt(row(movie2, Arrays.asList(new TestRelationship(11L, 2L, 3L), genre)));
+
+        Node genreOfRow1 = findNode(row1, 3L);
+        Node genreOfRow2 = findNode(row2, 3L);
+        assertThat(genreOfRow1).isSameAs(genreOfRow2);
+        assertThat(row1.getRelationships()).extracting(Edge::getId).containsExactly(10L);
+        assertThat(row2.getRelationships()).extracting(Edge::getId).containsExactly(11L);
+    }
+
+    @Test
+    public void shouldKeepGeneratedAndReturnedNodesApart() {
+        TestNode movie1 = new TestNode(1L, "Movie");
+        TestNode movie2 = new TestNode(2L, "Movie");
+
+        GraphModel row1 = adapter.adapt(row(movie1, Arrays.asList(new TestRelationship(10L, 1L, 2L), movie2)));
+        GraphModel row2 = adapter.adapt(row(movie2, Collections.emptyList()));
+
+        assertThat(((NodeModel) findNode(row1, 2L)).isGeneratedNode()).isTrue();
+        assertThat(((NodeModel) findNode(row2, 2L)).isGeneratedNode()).isFalse();
+    }
+
+    private static Map<String, Object> row(TestNode node, List<Object> related) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("n", node);
+        row.put("[ [ (n)-[r_g1:`GENRE`]->(g1:`Genre`) | [ r_g1, g1 ] ] ]", Collections.singletonList(related));
+        return row;
+    }
+
+    private static Node findNode(GraphModel graphModel, Long id) {
+        return graphModel.getNodes().stream().filter(node -> node.getId().equals(id)).findFirst().get();
+    }
+
+    private static class TestNode {
+
+        final long id;
+        final String label;
+
+        TestNode(long id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+    }
+
+    private static class TestRelationship {
+
+        final long id;
+        final long start;
+        final long end;
+
+        TestRelationship(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static class TestGraphModelAdapter extends GraphModelAdapter {
+
+        @Override
+        public boolean isPath(Object value) {
+            return false;
+        }
+
+        @Override
+        public boolean isNode(Object value) {
+            return value instanceof TestNode;
+        }
+
+        @Override
+        public boolean isRelationship(Object value) {
+            return value instanceof TestRelationship;
+        }
+
+        @Override
+        public long nodeId(Object node) {
+            return ((TestNode) node).id;
+        }
+
+        @Override
+        public List<String> labels(Object node) {
+            return Collections.singletonList(((TestNode) node).label);
+        }
+
+        @Override
+        public long relationshipId(Object relationship) {
+            return ((TestRelationship) relationship).id;
+        }
+
+        @Override
+        public String relationshipType(Object relationship) {
+            return "GENRE";
+        }
+
+        @Override
+        public Long startNodeId(Object relationship) {
+            return ((TestRelationship) relationship).start;
+        }
+
+        @Override
+        public Long endNodeId(Object relationship) {
+            return ((TestRelationship) relationship).end;
+        }
+
+        @Override
+        public Map<String, Object> properties(Object container) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public List<Object> nodesInPath(Object path) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Object> relsInPath(Object path) {
+            return Collections.emptyList();
+        }
+    }
+}
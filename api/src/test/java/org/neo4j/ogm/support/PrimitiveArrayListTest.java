@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class PrimitiveArrayListTest {
+
+    @Test
+    public void shouldBoxElementsOnAccess() {
+        long[] array = { 1L, 2L };
+        PrimitiveArrayList list = new PrimitiveArrayList(array);
+
+        assertThat(list).containsExactly(1L, 2L);
+        assertThat(list.getArray()).isSameAs(array);
+    }
+
+    @Test
+    public void shouldCopyElementsWhenModified() {
+        long[] array = { 1L, 2L };
+        List<Object> list = new PrimitiveArrayList(array);
+
+        list.add(3L);
+        list.set(0, 4L);
+        list.remove(1);
+
+        assertThat(list).containsExactly(4L, 3L);
+        assertThat(array).containsExactly(1L, 2L);
+        assertThat(((PrimitiveArrayList) list).getArray()).isNull();
+    }
+}
@@ -40,6 +40,7 @@ import org.neo4j.driver.v1.GraphDatabase;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.exceptions.SessionExpiredException;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.config.Credentials;
 import org.neo4j.ogm.config.UsernamePasswordCredentials;
@@ -48,6 +49,7 @@ import org.neo4j.ogm.driver.ExceptionTranslator;
 import org.neo4j.ogm.drivers.bolt.request.BoltRequest;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.TransientConnectionException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
@@ -145,12 +147,12 @@ public class BoltDriver extends AbstractConfigurableDriver {
                 try {
                     boltDriver = createDriver(AuthTokens.none());
                 } catch (ServiceUnavailableException e) {
-                    throw new ConnectionException(serviceUnavailableMessage, e);
+                    throw new TransientConnectionException(serviceUnavailableMessage, e);
                 }
                 LOGGER.debug("Bolt Driver credentials not supplied");
             }
         } catch (ServiceUnavailableException e) {
-            throw new ConnectionException(serviceUnavailableMessage, e);
+            throw new TransientConnectionException(serviceUnavailableMessage, e);
         }
     }
 
@@ -249,6 +251,8 @@ public class BoltDriver extends AbstractConfigurableDriver {
         } catch (ClientException ce) {
             throw new ConnectionException(
                 "Error connecting to graph database using Bolt: " + ce.code() + ", " + ce.getMessage(), ce);
+        } catch (ServiceUnavailableException | SessionExpiredException e) {
+            throw new TransientConnectionException("Error connecting to graph database using Bolt", e);
         } catch (Exception e) {
             throw new ConnectionException("Error connecting to graph database using Bolt", e);
         }
@@ -19,8 +19,9 @@
 package org.neo4j.ogm.drivers.bolt.driver;
 
 import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.exceptions.SessionExpiredException;
 import org.neo4j.ogm.driver.ExceptionTranslator;
-import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.TransientConnectionException;
 
 /**
  * Translates exceptions from the Java driver into unchecked exceptions.
@@ -34,8 +35,8 @@ class BoltDriverExceptionTranslator implements ExceptionTranslator {
     @Override
     public RuntimeException translateExceptionIfPossible(Throwable e) {
 
-        if (e instanceof ServiceUnavailableException) {
-            return new ConnectionException(e.getMessage(), e);
+        if (e instanceof ServiceUnavailableException || e instanceof SessionExpiredException) {
+            return new TransientConnectionException(e.getMessage(), e);
         }
 
         if (e instanceof RuntimeException) {
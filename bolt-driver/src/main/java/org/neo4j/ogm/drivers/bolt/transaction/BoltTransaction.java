@@ -21,9 +21,13 @@ package org.neo4j.ogm.drivers.bolt.transaction;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.exceptions.SessionExpiredException;
+import org.neo4j.driver.v1.exceptions.TransientException;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.exception.TransactionException;
+import org.neo4j.ogm.exception.TransientConnectionException;
 import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
@@ -101,6 +105,12 @@ public class BoltTransaction extends AbstractTransaction {
                 throw new ConnectionException("Security Error: " + ce.code() + ", " + ce.getMessage(), ce);
             }
             throw new CypherException(ce.code(), ce.getMessage(), ce);
+        } catch (TransientException te) {
+            closeNativeSessionIfPossible();
+            throw new CypherException(te.code(), te.getMessage(), te);
+        } catch (ServiceUnavailableException | SessionExpiredException e) {
+            closeNativeSessionIfPossible();
+            throw new TransientConnectionException(e.getMessage(), e);
         } catch (Exception e) {
             closeNativeSessionIfPossible();
             throw new TransactionException(e.getLocalizedMessage(), e);
@@ -130,6 +130,11 @@ class BoltNativeTypes implements TypeSystem {
         return mappedToNativeAdapter.hasAdapterFor(clazz);
     }
 
+    @Override
+    public boolean isNativeValue(Object value) {
+        return value instanceof Value;
+    }
+
     @Override
     public Function<Object, Object> getNativeToMappedTypeAdapter(Class<?> clazz) {
         return nativeToMappedAdapter.getAdapterFor(clazz);
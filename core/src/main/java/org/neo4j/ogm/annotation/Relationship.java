@@ -38,6 +38,7 @@ public @interface Relationship {
 
     String TYPE = "type";
     String DIRECTION = "direction";
+    String LOAD_LIMIT = "loadLimit";
 
     String INCOMING = "INCOMING";
     String OUTGOING = "OUTGOING";
@@ -57,4 +58,11 @@ public @interface Relationship {
      */
     String direction() default OUTGOING;
 
+    /**
+     * Maximum number of related entities loaded through this field, unlimited by default. Only honoured by
+     * {@link org.neo4j.ogm.session.LoadStrategy#SCHEMA_LOAD_STRATEGY}, related entities beyond the limit are not
+     * loaded and the field only holds a part of the relationships stored in the database.
+     */
+    int loadLimit() default -1;
+
 }
@@ -159,7 +159,9 @@ public class AutoIndexManager {
         // make sure drop and create happen in separate transactions
         // neo does not support that
         session.doInTransaction(() -> {
-            session.requestHandler().execute(dropIndexesRequest);
+            try (Response<RowModel> response = session.requestHandler().execute(dropIndexesRequest)) {
+                // Success
+            }
         }, READ_WRITE);
 
         create();
@@ -696,7 +696,7 @@ public class EntityGraphMapper implements EntityMapper {
             } else if (fieldInfo.isVersionField()) {
                 updateVersionField(entity, builder, fieldInfo);
             } else {
-                builder.addProperty(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
+                builder.addProperty(fieldInfo.propertyName(), fieldInfo.readGraphProperty(entity));
             }
         }
     }
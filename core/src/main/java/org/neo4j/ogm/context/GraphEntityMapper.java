@@ -32,6 +32,7 @@ import java.util.function.Predicate;
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.exception.core.ResultSizeExceededException;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DescriptorMappings;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -42,9 +43,9 @@ import org.neo4j.ogm.metadata.reflect.EntityFactory;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
-import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
@@ -59,25 +60,23 @@ public class GraphEntityMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(GraphEntityMapper.class);
 
-    private static Map<String, ?> toMap(List<Property<String, Object>> propertyList) {
-
-        Map<String, Object> map = new HashMap<>();
-
-        for (Property<String, Object> property : propertyList) {
-            map.put(property.getKey(), property.getValue());
-        }
-
-        return map;
-    }
-
     private final MappingContext mappingContext;
     private final EntityFactory entityFactory;
     private final MetaData metadata;
+    private final MetricsListener metricsListener;
+    private final ResultLimits resultLimits;
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, MetricsListener.NOOP, ResultLimits.NONE);
+    }
+
+    public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, EntityInstantiator entityInstantiator,
+        MetricsListener metricsListener, ResultLimits resultLimits) {
         this.metadata = metaData;
         this.entityFactory = new EntityFactory(metadata, entityInstantiator);
         this.mappingContext = mappingContext;
+        this.metricsListener = metricsListener;
+        this.resultLimits = resultLimits;
     }
 
     <T> List<T> map(Class<T> type, List<GraphModel> listOfGraphModels) {
@@ -87,6 +86,9 @@ public class GraphEntityMapper {
     <T> List<T> map(Class<T> type, List<GraphModel> listOfGraphModels,
         BiFunction<GraphModel, Long, Boolean> additionalNodeFilter) {
 
+        long start = metricsListener == MetricsListener.NOOP ? 0L : System.nanoTime();
+        int entityCountBefore = mappingContext.getNodeEntityCount() + mappingContext.getRelationshipEntityCount();
+
         // Those are the ids of all mapped nodes.
         Set<Long> mappedNodeIds = new LinkedHashSet<>();
         // Those are the ids of the returned nodes
@@ -101,7 +103,16 @@ public class GraphEntityMapper {
         listOfGraphModels.forEach(mapContentOfIndividualModel);
 
         // Execute postload after all models and only for new ids
-        executePostLoad(mappedNodeIds, mappedRelationshipIds);
+        mappingContext.mapRelationships(() -> {
+            executePostLoad(mappedNodeIds, mappedRelationshipIds);
+            return null;
+        });
+
+        if (metricsListener != MetricsListener.NOOP) {
+            int entityCount = mappingContext.getNodeEntityCount() + mappingContext.getRelationshipEntityCount();
+            metricsListener.resultMapped(listOfGraphModels.size(), entityCount - entityCountBefore,
+                System.nanoTime() - start);
+        }
 
         // Collect result
         Predicate<Object> entityPresentAndCompatible = entity -> entity != null && type
@@ -139,10 +150,10 @@ public class GraphEntityMapper {
             returnedNodeIds.addAll(newNodeIds.stream().filter(includeInResult).collect(toList()));
             mappedNodeIds.addAll(newNodeIds);
 
-            newNodeIds = mapRelationships(graphModel);
+            newNodeIds = mappingContext.mapRelationships(() -> mapRelationships(graphModel, mappedRelationshipIds));
             returnedRelationshipIds.addAll(newNodeIds.stream().filter(includeInResult).collect(toList()));
             mappedRelationshipIds.addAll(newNodeIds);
-        } catch (MappingException e) {
+        } catch (MappingException | ResultSizeExceededException e) {
             throw e;
         } catch (Exception e) {
             throw new MappingException("Error mapping GraphModel", e);
@@ -204,14 +215,20 @@ public class GraphEntityMapper {
                     logger.debug("Could not find a class to map for labels " + Arrays.toString(node.getLabels()));
                     continue;
                 }
-                Map<String, Object> allProps = new HashMap<>(toMap(node.getPropertyList()));
-                getCompositeProperties(node.getPropertyList(), clsi).forEach((k, v) -> {
-                    allProps.put(k.getName(), v);
-                });
+                Map<String, Object> properties = node.getPropertyMap();
+                Map<FieldInfo, Object> compositeProperties = getCompositeProperties(properties, clsi);
+                Map<String, Object> allProps = properties;
+                if (!compositeProperties.isEmpty()) {
+                    allProps = new HashMap<>(properties);
+                    for (Map.Entry<FieldInfo, Object> compositeProperty : compositeProperties.entrySet()) {
+                        allProps.put(compositeProperty.getKey().getName(), compositeProperty.getValue());
+                    }
+                }
 
+                resultLimits.entityHydrated();
                 entity = entityFactory.newObject(clsi.getUnderlyingClass(), allProps);
                 EntityUtils.setIdentity(entity, node.getId(), metadata);
-                setProperties(node.getPropertyList(), entity);
+                setProperties(properties, compositeProperties, entity);
                 setLabels(node, entity);
                 mappingContext.addNodeEntity(entity, node.getId());
             }
@@ -222,36 +239,36 @@ public class GraphEntityMapper {
     }
 
     /**
-     * Finds the composite properties of an entity type and build their values using a property list.
+     * Finds the composite properties of an entity type and build their values using a property map.
      *
-     * @param propertyList The properties to convert from.
-     * @param classInfo    The class to inspect for composite attributes.
+     * @param properties The properties to convert from.
+     * @param classInfo  The class to inspect for composite attributes.
      * @return a map containing the values of the converted attributes, indexed by field object. Never null.
      */
-    private Map<FieldInfo, Object> getCompositeProperties(List<Property<String, Object>> propertyList,
-        ClassInfo classInfo) {
-
-        Map<FieldInfo, Object> compositeValues = new HashMap<>();
+    private Map<FieldInfo, Object> getCompositeProperties(Map<String, Object> properties, ClassInfo classInfo) {
 
         Collection<FieldInfo> compositeFields = classInfo.fieldsInfo().compositeFields();
-        if (compositeFields.size() > 0) {
-            Map<String, ?> propertyMap = toMap(propertyList);
-            for (FieldInfo field : compositeFields) {
-                CompositeAttributeConverter<?> converter = field.getCompositeConverter();
-                compositeValues.put(field, converter.toEntityAttribute(propertyMap));
-            }
+        if (compositeFields.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<FieldInfo, Object> compositeValues = new HashMap<>();
+        for (FieldInfo field : compositeFields) {
+            CompositeAttributeConverter<?> converter = field.getCompositeConverter();
+            compositeValues.put(field, converter.toEntityAttribute(properties));
         }
 
         return compositeValues;
     }
 
-    private void setProperties(List<Property<String, Object>> propertyList, Object instance) {
+    private void setProperties(Map<String, Object> properties, Map<FieldInfo, Object> compositeProperties,
+        Object instance) {
         ClassInfo classInfo = metadata.classInfo(instance);
 
-        getCompositeProperties(propertyList, classInfo).forEach((field, v) -> field.write(instance, v));
+        compositeProperties.forEach((field, v) -> field.write(instance, v));
 
-        for (Property<?, ?> property : propertyList) {
-            writeProperty(classInfo, instance, property);
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            writeProperty(classInfo, instance, property.getKey(), property.getValue());
         }
     }
 
@@ -266,42 +283,41 @@ public class GraphEntityMapper {
                     dynamicLabels.add(label);
                 }
             }
-            writeProperty(classInfo, instance, PropertyModel.with(labelFieldInfo.getName(), dynamicLabels));
+            writeProperty(classInfo, instance, labelFieldInfo.getName(), dynamicLabels);
         }
     }
 
-    private void writeProperty(ClassInfo classInfo, Object instance, Property<?, ?> property) {
+    private void writeProperty(ClassInfo classInfo, Object instance, String key, Object value) {
 
-        FieldInfo writer = classInfo.getFieldInfo(property.getKey().toString());
+        FieldInfo writer = classInfo.getFieldInfo(key);
 
         if (writer == null) {
-            logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
+            logger.debug("Unable to find property: {} on class: {} for writing", key, classInfo.name());
         } else {
-            Object value = property.getValue();
-            // merge iterable / arrays and co-erce to the correct attribute type
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                FieldInfo reader = classInfo.getFieldInfo(property.getKey().toString());
-                if (reader != null) {
-                    Class<?> paramType = writer.type();
-                    Class elementType = underlyingElementType(classInfo, property.getKey().toString());
-                    if (paramType.isArray()) {
-                        value = EntityAccessManager.merge(paramType, value, new Object[] {}, elementType);
-                    } else {
-                        value = EntityAccessManager.merge(paramType, value, Collections.emptyList(), elementType);
-                    }
-                }
-            }
-            writer.write(instance, value);
+            writer.writeProperty(instance, value);
         }
     }
 
-    private Set<Long> mapRelationships(GraphModel graphModel) {
+    /**
+     * Maps the relationships of the given model. Relationships already mapped from a previous model of the same
+     * response are skipped, as rows of pattern comprehension results contain the same relationships many times.
+     *
+     * @param graphModel          the model to map
+     * @param previouslyMappedIds ids of the relationships already mapped from previous models
+     * @return the ids of the relationships mapped from this model
+     */
+    private Set<Long> mapRelationships(GraphModel graphModel, Set<Long> previouslyMappedIds) {
 
         Set<Long> mappedRelationshipIds = new HashSet<>();
         List<Edge> oneToMany = new ArrayList<>();
 
         for (Edge edge : graphModel.getRelationships()) {
 
+            if (previouslyMappedIds.contains(edge.getId())) {
+                mappedRelationshipIds.add(edge.getId());
+                continue;
+            }
+
             Object source = mappingContext.getNodeEntity(edge.getStartNode());
             Object target = mappingContext.getNodeEntity(edge.getEndNode());
 
@@ -381,8 +397,10 @@ public class GraphEntityMapper {
             throw new MappingException("Could not find a class to map for relation " + edge);
         }
 
-        Map<String, Object> allProps = new HashMap<>(toMap(edge.getPropertyList()));
-        getCompositeProperties(edge.getPropertyList(), relationClassInfo).forEach((k, v) -> {
+        Map<String, Object> properties = edge.getPropertyMap();
+        Map<FieldInfo, Object> compositeProperties = getCompositeProperties(properties, relationClassInfo);
+        Map<String, Object> allProps = new HashMap<>(properties);
+        compositeProperties.forEach((k, v) -> {
             allProps.put(k.getName(), v);
         });
         // also add start and end node as valid constructor values
@@ -390,12 +408,13 @@ public class GraphEntityMapper {
         allProps.put(relationClassInfo.getEndNodeReader().getName(), endEntity);
 
         // create and hydrate the new RE
+        resultLimits.entityHydrated();
         Object relationshipEntity = entityFactory
             .newObject(relationClassInfo.getUnderlyingClass(), allProps);
         EntityUtils.setIdentity(relationshipEntity, edge.getId(), metadata);
 
         // REs also have properties
-        setProperties(edge.getPropertyList(), relationshipEntity);
+        setProperties(properties, compositeProperties, relationshipEntity);
 
         // register it in the mapping context
         mappingContext.addRelationshipEntity(relationshipEntity, edge.getId());
@@ -537,17 +556,13 @@ public class GraphEntityMapper {
             .getIterableField(classInfo, valueType, relationshipType, relationshipDirection);
         if (writer != null) {
             if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                FieldInfo reader = EntityAccessManager
-                    .getIterableField(classInfo, valueType, relationshipType, relationshipDirection);
-                Object currentValues;
-                if (reader != null) {
-                    currentValues = reader.read(instance);
-                    if (writer.type().isArray()) {
-                        values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
-                    } else {
-                        values = EntityAccessManager
-                            .merge(writer.type(), values, (Collection) currentValues, valueType);
-                    }
+                // The writer is the reader as well
+                Object currentValues = writer.read(instance);
+                if (writer.type().isArray()) {
+                    values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
+                } else {
+                    values = EntityAccessManager
+                        .merge(writer.type(), values, (Collection) currentValues, valueType);
                 }
             }
             writer.write(instance, values);
@@ -657,21 +672,4 @@ public class GraphEntityMapper {
         }
         return false;
     }
-
-    private Class underlyingElementType(ClassInfo classInfo, String propertyName) {
-        FieldInfo fieldInfo = fieldInfoForPropertyName(propertyName, classInfo);
-        Class clazz = null;
-        if (fieldInfo != null) {
-            clazz = DescriptorMappings.getType(fieldInfo.getTypeDescriptor());
-        }
-        return clazz;
-    }
-
-    private FieldInfo fieldInfoForPropertyName(String propertyName, ClassInfo classInfo) {
-        FieldInfo labelField = classInfo.labelFieldOrNull();
-        if (labelField != null && labelField.getName().toLowerCase().equals(propertyName.toLowerCase())) {
-            return labelField;
-        }
-        return classInfo.propertyField(propertyName);
-    }
 }
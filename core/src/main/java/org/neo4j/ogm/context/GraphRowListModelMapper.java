@@ -33,6 +33,8 @@ import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.model.GraphRowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
 
 /**
  * @author Vince Bickers
@@ -41,22 +43,34 @@ import org.neo4j.ogm.session.EntityInstantiator;
 public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel> {
 
     private final GraphEntityMapper delegate;
+    private final MetricsListener metricsListener;
 
     public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, MetricsListener.NOOP, ResultLimits.NONE);
+    }
+
+    public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, MetricsListener metricsListener, ResultLimits resultLimits) {
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this.metricsListener = metricsListener;
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metricsListener,
+            resultLimits);
     }
 
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
 
         // Retrieve all the row models
+        long start = metricsListener == MetricsListener.NOOP ? 0L : System.nanoTime();
         List<GraphRowModel> listOfRowModels = response.toList()
             .stream()
             .flatMap(rowsModel -> rowsModel.model().stream())
             .collect(toList());
 
         response.close();
+        if (metricsListener != MetricsListener.NOOP) {
+            metricsListener.resultFetched(listOfRowModels.size(), System.nanoTime() - start);
+        }
 
         // Extract the graph models and the ids of all result entities
         // I guess those are the entities that are clearly identified by
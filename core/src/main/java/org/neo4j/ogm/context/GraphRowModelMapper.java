@@ -29,6 +29,8 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
 
 /**
  * @author Michael J. Simons
@@ -36,18 +38,30 @@ import org.neo4j.ogm.session.EntityInstantiator;
 public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
 
     private final GraphEntityMapper delegate;
+    private final MetricsListener metricsListener;
 
     public GraphRowModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, MetricsListener.NOOP, ResultLimits.NONE);
+    }
+
+    public GraphRowModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, MetricsListener metricsListener, ResultLimits resultLimits) {
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this.metricsListener = metricsListener;
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metricsListener,
+            resultLimits);
     }
 
     @Override
     public <T> Iterable<T> map(Class<T> type, Response<GraphModel> model) {
 
+        long start = metricsListener == MetricsListener.NOOP ? 0L : System.nanoTime();
         List<GraphModel> listOfGraphModels = model.toList();
         model.close();
+        if (metricsListener != MetricsListener.NOOP) {
+            metricsListener.resultFetched(listOfGraphModels.size(), System.nanoTime() - start);
+        }
 
         BiFunction<GraphModel, Long, Boolean> isNotGeneratedNode = (graphModel, nativeId) -> {
             Optional<Node> node = ((DefaultGraphModel) graphModel).findNode(nativeId);
@@ -18,9 +18,7 @@
  */
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,11 +50,11 @@ class IdentityMap {
 
     private final MetaData metaData;
 
-    IdentityMap(MetaData metaData) {
-        this.nodeHashes = new HashMap<>();
-        this.relEntityHashes = new HashMap<>();
-        this.snapshotsOfNodeEntities = new HashMap<>();
-        this.snapshotsOfRelationshipEntities = new HashMap<>();
+    IdentityMap(MetaData metaData, boolean concurrent) {
+        this.nodeHashes = MappingContext.newRegister(concurrent);
+        this.relEntityHashes = MappingContext.newRegister(concurrent);
+        this.snapshotsOfNodeEntities = MappingContext.newRegister(concurrent);
+        this.snapshotsOfRelationshipEntities = MappingContext.newRegister(concurrent);
         this.metaData = metaData;
     }
 
@@ -157,17 +155,49 @@ class IdentityMap {
     }
 
     /**
-     * hashes an array of objects or primitives
+     * hashes an array of objects or primitives into 64 bits, reading arrays of primitives without boxing their elements
      *
      * @param array array of unknown type
      * @return the hash of the array
      */
     private static long hashArray(Object array) {
         long result = 1;
-        int len = Array.getLength(array);
-        for (int i = 0; i < len; i++) {
-            Object element = Array.get(array, i);
-            result = 31L * result + (element == null ? 0 : element.hashCode());
+        if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                result = 31L * result + Long.hashCode(element);
+            }
+        } else if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                result = 31L * result + Double.hashCode(element);
+            }
+        } else if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                result = 31L * result + Integer.hashCode(element);
+            }
+        } else if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                result = 31L * result + Float.hashCode(element);
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                result = 31L * result + Boolean.hashCode(element);
+            }
+        } else if (array instanceof char[]) {
+            for (char element : (char[]) array) {
+                result = 31L * result + Character.hashCode(element);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                result = 31L * result + Byte.hashCode(element);
+            }
+        } else if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                result = 31L * result + Short.hashCode(element);
+            }
+        } else {
+            for (Object element : (Object[]) array) {
+                result = 31L * result + (element == null ? 0 : element.hashCode());
+            }
         }
         return result;
     }
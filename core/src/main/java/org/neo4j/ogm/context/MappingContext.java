@@ -19,6 +19,8 @@
 package org.neo4j.ogm.context;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.NodeEntity;
@@ -35,6 +37,8 @@ import org.neo4j.ogm.utils.EntityUtils;
  * The MappingContext maintains a map of all the objects created during the hydration
  * of an object map (domain hierarchy). The MappingContext lifetime is concurrent
  * with a session lifetime.
+ * <p>
+ * A context is not thread safe, unless it has been created through {@link #concurrent(MetaData)}.
  *
  * @author Vince Bickers
  * @author Luanne Misquitta
@@ -61,15 +65,72 @@ public class MappingContext {
 
     private final MetaData metaData;
 
+    private final boolean concurrent;
+
+    // guards the relationship fields of the registered entities in a concurrent context
+    private final Object relationshipMappingLock = new Object();
+
+    // ids of the entities registered since recording started, null if not recording
+    private Set<Long> recordedNodeIds;
+    private Set<Long> recordedRelationshipEntityIds;
+
     public MappingContext(MetaData metaData) {
+        this(metaData, false);
+    }
+
+    private MappingContext(MetaData metaData, boolean concurrent) {
         this.metaData = metaData;
-        this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
-        this.primaryIndexNodeRegister = new HashMap<>();
-        this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
-        this.primaryIdToRelationship = new HashMap<>();
-        this.relationshipRegister = new HashSet<>();
+        this.concurrent = concurrent;
+        this.identityMap = new IdentityMap(metaData, concurrent);
+        this.nodeEntityRegister = newRegister(concurrent);
+        this.primaryIndexNodeRegister = newRegister(concurrent);
+        this.primaryIdToNativeId = newRegister(concurrent);
+        this.relationshipEntityRegister = newRegister(concurrent);
+        this.primaryIdToRelationship = newRegister(concurrent);
+        this.relationshipRegister = concurrent ? ConcurrentHashMap.newKeySet() : new HashSet<>();
+    }
+
+    /**
+     * Creates a context that can be shared by several threads. Its registers are concurrent maps, which lock single
+     * bins instead of the whole map on updates and don't lock at all on reads. Entities are registered with a single
+     * atomic put, so threads hydrating the same node concurrently end up with the instance registered first.
+     * <p>
+     * Entities are registered after their properties have been hydrated. Mapping relationships changes entities
+     * already registered, therefore it is serialized through {@link #mapRelationships(Supplier)}.
+     *
+     * @param metaData The metadata of the mapped domain
+     * @return A new, thread safe context
+     */
+    public static MappingContext concurrent(MetaData metaData) {
+        return new MappingContext(metaData, true);
+    }
+
+    static <K, V> Map<K, V> newRegister(boolean concurrent) {
+        return concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    /**
+     * @return True if this context can be shared by several threads
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Runs work changing the relationship fields of registered entities. In a concurrent context, the work of
+     * different threads is serialized, as they might map relationships of the same entities.
+     *
+     * @param work The work mapping relationships
+     * @param <T>  The type of the result
+     * @return The result of the work
+     */
+    public <T> T mapRelationships(Supplier<T> work) {
+        if (!concurrent) {
+            return work.get();
+        }
+        synchronized (relationshipMappingLock) {
+            return work.get();
+        }
     }
 
     /**
@@ -144,8 +205,10 @@ public class MappingContext {
 
         ClassInfo classInfo = metaData.classInfo(entity);
 
-        if (!nodeEntityRegister.containsKey(id)) {
-            nodeEntityRegister.put(id, entity);
+        if (nodeEntityRegister.putIfAbsent(id, entity) == null) {
+            if (recordedNodeIds != null) {
+                recordedNodeIds.add(id);
+            }
             final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(entity);
             if (primaryIndexValue != null) {
                 LabelPrimaryId key = new LabelPrimaryId(classInfo, primaryIndexValue);
@@ -276,6 +339,55 @@ public class MappingContext {
         relationshipEntityRegister.clear();
     }
 
+    /**
+     * Starts recording the node and relationship entities registered in this context, including entities registered
+     * again after they have been saved, so that they can be detached if the unit of work registering them fails.
+     * A concurrent context doesn't record anything, as it is only used to read entities.
+     */
+    public void startRecording() {
+        if (concurrent) {
+            return;
+        }
+        this.recordedNodeIds = new HashSet<>();
+        this.recordedRelationshipEntityIds = new HashSet<>();
+    }
+
+    /**
+     * Stops recording registered entities and forgets the recorded ones.
+     */
+    public void stopRecording() {
+        this.recordedNodeIds = null;
+        this.recordedRelationshipEntityIds = null;
+    }
+
+    /**
+     * Detaches all entities registered since {@link #startRecording()} and continues recording. The entities are left
+     * as they are, but they are not tracked by this context anymore, so that they are treated as changed when saved
+     * again.
+     */
+    public void detachRecordedEntities() {
+        if (recordedNodeIds == null) {
+            return;
+        }
+        recordedRelationshipEntityIds.forEach(this::detachRelationshipEntity);
+        recordedNodeIds.forEach(this::detachNodeEntity);
+        startRecording();
+    }
+
+    /**
+     * @return The number of node entities currently registered in this context.
+     */
+    public int getNodeEntityCount() {
+        return nodeEntityRegister.size();
+    }
+
+    /**
+     * @return The number of relationship entities currently registered in this context.
+     */
+    public int getRelationshipEntityCount() {
+        return relationshipEntityRegister.size();
+    }
+
     public Object getRelationshipEntity(Long relationshipId) {
         return relationshipEntityRegister.get(relationshipId);
     }
@@ -296,6 +408,9 @@ public class MappingContext {
 
         if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity) == null) {
             relationshipEntity = relationshipEntityRegister.get(id);
+            if (recordedRelationshipEntityIds != null) {
+                recordedRelationshipEntityIds.add(id);
+            }
             remember(relationshipEntity, id);
 
             ClassInfo classInfo = metaData.classInfo(relationshipEntity);
@@ -522,12 +637,7 @@ public class MappingContext {
             }
 
             LabelPrimaryId key = new LabelPrimaryId(classInfo, primaryIndexValue);
-            Long graphId = primaryIdToNativeId.get(key);
-            if (graphId == null) {
-                graphId = EntityUtils.nextRef();
-                primaryIdToNativeId.put(key, graphId);
-            }
-            return graphId;
+            return primaryIdToNativeId.computeIfAbsent(key, k -> EntityUtils.nextRef());
         }
     }
 
@@ -42,6 +42,8 @@ import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 import org.neo4j.ogm.session.EntityInstantiator;
 import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
 
 /**
  * Map NodeModels and RelationshipModels obtained from cypher queries to domain entities
@@ -53,19 +55,33 @@ public class RestModelMapper {
 
     private final MappingContext mappingContext;
     private final GraphEntityMapper delegate;
+    private final MetricsListener metricsListener;
 
     public RestModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, MetricsListener.NOOP, ResultLimits.NONE);
+    }
+
+    public RestModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, MetricsListener metricsListener, ResultLimits resultLimits) {
         this.mappingContext = mappingContext;
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this.metricsListener = metricsListener;
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metricsListener,
+            resultLimits);
     }
 
     public RestStatisticsModel map(Response<RestModel> response) {
 
+        long start = metricsListener == MetricsListener.NOOP ? 0L : System.nanoTime();
+        List<RestModel> rows = response.toList();
+        if (metricsListener != MetricsListener.NOOP) {
+            metricsListener.resultFetched(rows.size(), System.nanoTime() - start);
+        }
+
         // Build a list of result row builders, that are able to recreate the result structure from
         // the result of executing the graph to entity mapping
-        List<ResultRowBuilder> resultRowBuilders = response.toList().stream()
+        List<ResultRowBuilder> resultRowBuilders = rows.stream()
             .map(model -> {
                 ResultRowBuilder resultRowBuilder = new ResultRowBuilder(
                     this::getEntityOrNodeModel,
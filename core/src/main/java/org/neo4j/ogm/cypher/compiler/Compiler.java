@@ -20,6 +20,8 @@ package org.neo4j.ogm.cypher.compiler;
 
 import java.util.List;
 
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
 
@@ -101,6 +103,21 @@ public interface Compiler {
      */
     List<Statement> createRelationshipsStatements();
 
+    /**
+     * Retrieves the nodes to be created, for drivers writing them without Cypher.
+     *
+     * @return A {@link List} of new nodes identified by their reference, never <code>null</code>
+     */
+    List<Node> newNodes();
+
+    /**
+     * Retrieves the relationships to be created, for drivers writing them without Cypher. Their start and end nodes
+     * are the references of new nodes or the ids of existing nodes.
+     *
+     * @return A {@link List} of new relationships, never <code>null</code>
+     */
+    List<Edge> newRelationships();
+
     /**
      * Retrieves the Cypher statements that update nodes built up through this {@link Compiler}.
      *
@@ -173,6 +173,19 @@ public class MultiStatementCypherCompiler implements Compiler {
         return statements;
     }
 
+    @Override
+    public List<Node> newNodes() {
+        return newNodeBuilders.stream().map(NodeBuilder::node).collect(toList());
+    }
+
+    @Override
+    public List<Edge> newRelationships() {
+        return newRelationshipBuilders.stream()
+            .map(RelationshipBuilder::edge)
+            .filter(edge -> edge.getStartNode() != null && edge.getEndNode() != null)
+            .collect(toList());
+    }
+
     @Override
     public List<Statement> updateNodesStatements() {
         assertStatementFactoryExists();
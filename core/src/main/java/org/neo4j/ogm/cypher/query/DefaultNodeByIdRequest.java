@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.util.Map;
+
+import org.neo4j.ogm.request.NodeByIdRequest;
+
+/**
+ * A {@link DefaultGraphModelRequest} for loading a single node, which drivers may answer without running the Cypher
+ * query.
+ */
+public class DefaultNodeByIdRequest extends DefaultGraphModelRequest implements NodeByIdRequest {
+
+    private final String label;
+    private final String primaryIndex;
+    private final Object id;
+    private final int depth;
+
+    public DefaultNodeByIdRequest(String cypher, Map<String, ?> parameters, String label, String primaryIndex,
+        Object id, int depth) {
+        super(cypher, parameters);
+        this.label = label;
+        this.primaryIndex = primaryIndex;
+        this.id = id;
+        this.depth = depth;
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public String primaryIndex() {
+        return primaryIndex;
+    }
+
+    @Override
+    public Object id() {
+        return id;
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+}
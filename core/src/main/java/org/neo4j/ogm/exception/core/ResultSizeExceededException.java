@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.exception.core;
+
+/**
+ * Thrown when a session operation reads more rows or hydrates more entities than configured. The operation is aborted
+ * and the result is discarded.
+ */
+public class ResultSizeExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 4271036619240237365L;
+
+    /**
+     * Constructs a new {@link ResultSizeExceededException} with the given message.
+     *
+     * @param message A message describing the exceeded limit
+     */
+    public ResultSizeExceededException(String message) {
+        super(message);
+    }
+}
@@ -30,6 +30,8 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.*;
+import org.neo4j.ogm.context.DirectedRelationship;
+import org.neo4j.ogm.context.DirectedRelationshipForType;
 import org.neo4j.ogm.driver.TypeSystem;
 import org.neo4j.ogm.exception.core.InvalidPropertyFieldException;
 import org.neo4j.ogm.exception.core.MappingException;
@@ -78,8 +80,11 @@ public class ClassInfo {
     private AnnotationsInfo annotationsInfo;
     private InterfacesInfo interfacesInfo;
     private ClassInfo directSuperclass;
-    private Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
+    private Map<Class, List<FieldInfo>> iterableFieldsForType = new ConcurrentHashMap<>();
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
+    private final Map<DirectedRelationship, Optional<FieldInfo>> relationalReaders = new ConcurrentHashMap<>();
+    private final Map<DirectedRelationshipForType, Optional<FieldInfo>> relationalWriters = new ConcurrentHashMap<>();
+    private final Map<DirectedRelationshipForType, Optional<FieldInfo>> iterableWriters = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
     private volatile Map<String, FieldInfo> propertyFields;
     private volatile Map<String, FieldInfo> indexFields;
@@ -674,9 +679,15 @@ public class ClassInfo {
      */
     public List<FieldInfo> findIterableFields(Class iteratedType) {
 
-        if (iterableFieldsForType.containsKey(iteratedType)) {
-            return iterableFieldsForType.get(iteratedType);
+        List<FieldInfo> iterableFields = iterableFieldsForType.get(iteratedType);
+        if (iterableFields == null) {
+            iterableFields = Collections.unmodifiableList(computeIterableFields(iteratedType));
+            iterableFieldsForType.put(iteratedType, iterableFields);
         }
+        return iterableFields;
+    }
+
+    private List<FieldInfo> computeIterableFields(Class iteratedType) {
 
         String typeSignature = iteratedType.getName();
         String arrayOfTypeSignature = typeSignature + "[]";
@@ -725,6 +736,39 @@ public class ClassInfo {
         return iterableFields;
     }
 
+    /**
+     * Lookup table for the relational readers of this class, filled lazily by
+     * {@link org.neo4j.ogm.metadata.reflect.EntityAccessManager}. Relationships without reader are mapped to an empty
+     * optional.
+     *
+     * @return A thread safe map from relationship to reader
+     */
+    public Map<DirectedRelationship, Optional<FieldInfo>> relationalReaders() {
+        return relationalReaders;
+    }
+
+    /**
+     * Lookup table for the scalar and iterable relational writers of this class by relationship and target type,
+     * filled lazily by {@link org.neo4j.ogm.metadata.reflect.EntityAccessManager}. Relationships without writer are
+     * mapped to an empty optional.
+     *
+     * @return A thread safe map from relationship and target type to writer
+     */
+    public Map<DirectedRelationshipForType, Optional<FieldInfo>> relationalWriters() {
+        return relationalWriters;
+    }
+
+    /**
+     * Lookup table for the iterable relational writers of this class by relationship and element type, filled lazily
+     * by {@link org.neo4j.ogm.metadata.reflect.EntityAccessManager}. Relationships without writer are mapped to an
+     * empty optional.
+     *
+     * @return A thread safe map from relationship and element type to writer
+     */
+    public Map<DirectedRelationshipForType, Optional<FieldInfo>> iterableWriters() {
+        return iterableWriters;
+    }
+
     public boolean isTransient() {
         return annotationsInfo.get(Transient.class) != null;
     }
@@ -24,13 +24,19 @@ import org.neo4j.ogm.annotation.typeconversion.Convert;
 import org.neo4j.ogm.driver.TypeSystem;
 import org.neo4j.ogm.driver.TypeSystem.NoNativeTypes;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.index.DomainIndex;
+import org.neo4j.ogm.support.ClassUtils;
 import org.neo4j.ogm.typeconversion.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparingInt;
@@ -62,43 +68,119 @@ public class DomainInfo {
 
     public static DomainInfo create(TypeSystem typeSystem, String... packages) {
 
-        ScanResult scanResult = new FastClasspathScanner(packages)
-            .strictWhitelist()
-            .scan();
-
         DomainInfo domainInfo = new DomainInfo(typeSystem);
 
         Predicate<Class<?>> classCouldBeLoaded = clazz -> clazz != null;
         Predicate<Class<?>> classIsMappable = clazz -> !(clazz.isAnnotation() || clazz.isAnonymousClass() || clazz
             .equals(Object.class));
 
-        Map<String, Class<?>> mappableClasses = scanResult.getNamesOfAllClasses()
+        Map<String, Class<?>> mappableClasses = findClassNames(packages)
             .stream()
             .map(DomainInfo::loadClass)
             .filter(classCouldBeLoaded)
             .filter(classIsMappable)
             .collect(Collectors.toMap(Class::getName, Function.identity()));
 
+        // Creating the class infos is the expensive part (reflection, annotations and generics) and independent
+        // for each class, so it is done in parallel. Linking the hierarchy is done afterwards in a stable order.
+        Map<Class<?>, ClassInfo> classInfos = createClassInfos(mappableClasses.values(), typeSystem);
+
         mappableClasses.values()
-            .forEach(clazz -> prepareClass(domainInfo, mappableClasses, typeSystem, clazz));
+            .forEach(clazz -> prepareClass(domainInfo, mappableClasses, classInfos, typeSystem, clazz));
 
         domainInfo.finish();
 
         return domainInfo;
     }
 
+    private static Map<Class<?>, ClassInfo> createClassInfos(Collection<Class<?>> classes, TypeSystem typeSystem) {
+
+        // Class infos resolve field types through the context class loader, which is not set on the threads of the
+        // common pool (Java 9+) and may differ from the one of the caller, so it is propagated to each task.
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Map<Class<?>, CompletableFuture<ClassInfo>> futureClassInfos = new HashMap<>();
+        classes.forEach(clazz -> futureClassInfos.put(clazz, CompletableFuture.supplyAsync(
+            () -> withContextClassLoader(contextClassLoader, () -> new ClassInfo(clazz, typeSystem)),
+            ForkJoinPool.commonPool())));
+
+        Map<Class<?>, ClassInfo> classInfos = new HashMap<>();
+        try {
+            futureClassInfos.forEach((clazz, futureClassInfo) -> classInfos.put(clazz, futureClassInfo.join()));
+        } catch (CompletionException e) {
+            // Keep the original mapping exceptions visible to the caller
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return classInfos;
+    }
+
+    private static <T> T withContextClassLoader(ClassLoader classLoader, Supplier<T> supplier) {
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            return supplier.get();
+        } finally {
+            currentThread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    /**
+     * Finds the names of all classes in the given packages. Packages covered by a {@link DomainIndex} are taken from
+     * that index, all others are scanned.
+     *
+     * @param packages The packages or fully qualified class names to look at
+     * @return The names of the classes found
+     */
+    private static Set<String> findClassNames(String... packages) {
+
+        DomainIndex domainIndex = DomainIndex.load(ClassUtils.getDefaultClassLoader());
+
+        Set<String> classNames = new TreeSet<>();
+        List<String> packagesToScan = new ArrayList<>();
+        if (domainIndex.isEmpty()) {
+            packagesToScan.addAll(Arrays.asList(packages));
+        } else {
+            String[] packagesToLookup = packages.length == 0 ? new String[] { "" } : packages;
+            for (String packageOrClassName : packagesToLookup) {
+                if (domainIndex.covers(packageOrClassName)) {
+                    LOGGER.debug("Using domain index for {}", packageOrClassName);
+                    classNames.addAll(domainIndex.getClassNames(packageOrClassName));
+                } else {
+                    packagesToScan.add(packageOrClassName);
+                }
+            }
+            if (packagesToScan.isEmpty()) {
+                return classNames;
+            }
+        }
+
+        ScanResult scanResult = new FastClasspathScanner(packagesToScan.toArray(new String[0]))
+            .strictWhitelist()
+            .scan();
+        classNames.addAll(scanResult.getNamesOfAllClasses());
+        return classNames;
+    }
+
     /**
      * Prepares and hydrates a class. If the class has super classes that have not been scan, this method modifies loads
      * and prepares the super classes recursively and adds it to {@link DomainInfo#classNameToClassInfo}.
      *
      * @param domainInfo
      * @param mappableClasses
+     * @param classInfos      Class infos already created for the mappable classes
      * @param typeSystem
      * @param clazz
      */
-    static void prepareClass(
-        DomainInfo domainInfo, Map<String, Class<?>> mappableClasses, TypeSystem typeSystem, Class clazz) {
-        ClassInfo newClassInfo = new ClassInfo(clazz, typeSystem);
+    static void prepareClass(DomainInfo domainInfo, Map<String, Class<?>> mappableClasses,
+        Map<Class<?>, ClassInfo> classInfos, TypeSystem typeSystem, Class clazz) {
+        ClassInfo newClassInfo = Optional.ofNullable(classInfos.get(clazz))
+            .orElseGet(() -> new ClassInfo(clazz, typeSystem));
         String className = newClassInfo.name();
         String superclassName = newClassInfo.superclassName();
 
@@ -122,7 +204,7 @@ public class DomainInfo {
                 superclassInfo = new ClassInfo(superClazz, classInfo);
                 domainInfo.classNameToClassInfo.put(superclassName, superclassInfo);
 
-                prepareClass(domainInfo, mappableClasses, typeSystem, superClazz);
+                prepareClass(domainInfo, mappableClasses, classInfos, typeSystem, superClazz);
             }
         }
 
@@ -26,7 +26,9 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.neo4j.ogm.annotation.GeneratedValue;
@@ -37,8 +39,10 @@ import org.neo4j.ogm.annotation.Properties;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.Version;
+import org.neo4j.ogm.driver.TypeSystem;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.id.InternalIdStrategy;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -62,6 +66,11 @@ public class FieldInfo {
     private final ClassInfo containingClassInfo;
     private final Field field;
     private final Class<?> fieldType;
+    /**
+     * The adapter turning values of a scalar, natively supported field into the representation of the driver,
+     * otherwise null.
+     */
+    private final Function<Object, Object> nativeTypeAdapter;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
      */
@@ -72,15 +81,42 @@ public class FieldInfo {
      */
     private CompositeAttributeConverter<?> compositeConverter;
 
+    /**
+     * The steps needed to turn values into values of this field, computed on first use and reset whenever a converter
+     * is registered.
+     */
+    private volatile ConversionPlan conversionPlan;
+
     /**
      * Constructs a new {@link FieldInfo} based on the given arguments.
      *
      * @param typeParameterDescriptor The descriptor that expresses the generic type parameter, which may be <code>null</code>
      *                                if that's not appropriate
      * @param annotations             The {@link ObjectAnnotations} applied to the field
+     * @param isSupportedNativeType   Tests whether a type is supported natively by the driver in use
      */
     public FieldInfo(ClassInfo classInfo, Field field, String typeParameterDescriptor, ObjectAnnotations annotations,
         Predicate<Class<?>> isSupportedNativeType) {
+        this(classInfo, field, typeParameterDescriptor, annotations, isSupportedNativeType, type -> null);
+    }
+
+    /**
+     * Constructs a new {@link FieldInfo} whose natively supported values are turned into the representation of the
+     * driver when they are read with {@link #readGraphProperty(Object)}.
+     *
+     * @param typeParameterDescriptor The descriptor that expresses the generic type parameter, which may be <code>null</code>
+     *                                if that's not appropriate
+     * @param annotations             The {@link ObjectAnnotations} applied to the field
+     * @param typeSystem              The type system of the driver in use
+     */
+    public FieldInfo(ClassInfo classInfo, Field field, String typeParameterDescriptor, ObjectAnnotations annotations,
+        TypeSystem typeSystem) {
+        this(classInfo, field, typeParameterDescriptor, annotations, typeSystem::supportsAsNativeType,
+            typeSystem::getMappedToNativeTypeAdapter);
+    }
+
+    private FieldInfo(ClassInfo classInfo, Field field, String typeParameterDescriptor, ObjectAnnotations annotations,
+        Predicate<Class<?>> isSupportedNativeType, Function<Class<?>, Function<Object, Object>> nativeTypeAdapters) {
         this.containingClassInfo = classInfo;
         this.field = field;
         this.fieldType = isGenericField(field) ? findFieldType(field, classInfo.getUnderlyingClass()) : field.getType();
@@ -90,6 +126,7 @@ public class FieldInfo {
         this.typeParameterDescriptor = typeParameterDescriptor;
         this.annotations = annotations;
         this.isSupportedNativeType = isSupportedNativeType.test(DescriptorMappings.getType(getTypeDescriptor()));
+        this.nativeTypeAdapter = this.isSupportedNativeType && isScalar() ? nativeTypeAdapters.apply(fieldType) : null;
         if (!this.annotations.isEmpty()) {
             Object converter = getAnnotations().getConverter(this.fieldType);
             if (converter instanceof AttributeConverter) {
@@ -187,6 +224,7 @@ public class FieldInfo {
     public void setPropertyConverter(AttributeConverter<?, ?> propertyConverter) {
         if (this.propertyConverter == null && this.compositeConverter == null && propertyConverter != null) {
             this.propertyConverter = propertyConverter;
+            this.conversionPlan = null;
         } // we maybe set an annotated converter when object was constructed, so don't override with a default one
     }
 
@@ -201,6 +239,7 @@ public class FieldInfo {
     public void setCompositeConverter(CompositeAttributeConverter<?> converter) {
         if (this.propertyConverter == null && this.compositeConverter == null && converter != null) {
             this.compositeConverter = converter;
+            this.conversionPlan = null;
         }
     }
 
@@ -353,17 +392,27 @@ public class FieldInfo {
     }
 
     public void write(Object instance, Object value) {
+        write(field, instance, getConversionPlan().toEntityAttribute.apply(value));
+    }
 
-        if (hasPropertyConverter()) {
-            value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
-        } else {
-            if (isScalar()) {
-                String actualTypeDescriptor = getTypeDescriptor();
-                value = Utils.coerceTypes(DescriptorMappings.getType(actualTypeDescriptor), value);
-            }
-            write(field, instance, value);
+    /**
+     * Writes a property as retrieved from the graph to the field. Arrays and iterables are first merged into the
+     * array or collection type of the field, then the value is converted and coerced as in {@link #write(Object, Object)}.
+     *
+     * @param instance class instance
+     * @param value    property value to be written
+     */
+    public void writeProperty(Object instance, Object value) {
+        write(field, instance, getConversionPlan().fromGraphProperty.apply(value));
+    }
+
+    private ConversionPlan getConversionPlan() {
+        ConversionPlan plan = conversionPlan;
+        if (plan == null) {
+            plan = new ConversionPlan(this);
+            conversionPlan = plan;
         }
+        return plan;
     }
 
     /**
@@ -412,6 +461,22 @@ public class FieldInfo {
         return value;
     }
 
+    /**
+     * Reads a property like {@link #readProperty(Object)} and turns values of natively supported fields into the
+     * representation of the driver right away, using the adapter resolved when this field was created. The parameter
+     * conversion of the driver passes those values on unchanged.
+     *
+     * @param instance class instance
+     * @return The value to be stored in the graph
+     */
+    public Object readGraphProperty(Object instance) {
+        Object value = readProperty(instance);
+        if (nativeTypeAdapter != null && !hasPropertyConverter() && value != null && value.getClass() == fieldType) {
+            value = nativeTypeAdapter.apply(value);
+        }
+        return value;
+    }
+
     public Map<String, ?> readComposite(Object instance) {
         if (!hasCompositeConverter()) {
             throw new IllegalStateException(
@@ -445,6 +510,21 @@ public class FieldInfo {
         return Relationship.UNDIRECTED;
     }
 
+    /**
+     * @return The maximum number of related entities to load through this field, negative if unlimited
+     */
+    public int relationshipLoadLimit() {
+
+        ObjectAnnotations annotationOfField = getAnnotations();
+        if (annotationOfField != null) {
+            AnnotationInfo relationshipAnnotation = annotationOfField.get(Relationship.class);
+            if (relationshipAnnotation != null) {
+                return Integer.parseInt(relationshipAnnotation.get(Relationship.LOAD_LIMIT, "-1"));
+            }
+        }
+        return -1;
+    }
+
     public String typeDescriptor() {
         return getTypeDescriptor();
     }
@@ -514,4 +594,36 @@ public class FieldInfo {
 
         return false;
     }
+
+    private static final class ConversionPlan {
+
+        private static final Object[] NO_VALUES = new Object[0];
+
+        private final Function<Object, Object> toEntityAttribute;
+        private final Function<Object, Object> fromGraphProperty;
+
+        @SuppressWarnings("unchecked")
+        ConversionPlan(FieldInfo fieldInfo) {
+
+            if (fieldInfo.hasPropertyConverter()) {
+                AttributeConverter<Object, Object> converter = fieldInfo.getPropertyConverter();
+                this.toEntityAttribute = converter::toEntityAttribute;
+            } else if (fieldInfo.isScalar()) {
+                this.toEntityAttribute = Utils.coercionFor(DescriptorMappings.getType(fieldInfo.getTypeDescriptor()));
+            } else {
+                this.toEntityAttribute = Function.identity();
+            }
+
+            Class<?> type = fieldInfo.type();
+            if (type.isArray() || Iterable.class.isAssignableFrom(type)) {
+                Class<?> elementType = DescriptorMappings.getType(fieldInfo.getTypeDescriptor());
+                Function<Object, Object> merge = type.isArray() ?
+                    value -> EntityAccessManager.merge(type, value, NO_VALUES, elementType) :
+                    value -> EntityAccessManager.merge(type, value, Collections.emptyList(), elementType);
+                this.fromGraphProperty = merge.andThen(toEntityAttribute);
+            } else {
+                this.fromGraphProperty = toEntityAttribute;
+            }
+        }
+    }
 }
@@ -71,8 +71,7 @@ public class FieldsInfo {
                     String typeParameterDescriptor = findTypeParameterDescriptor(field, objectAnnotations);
 
                     fields.put(field.getName(),
-                        new FieldInfo(classInfo, field, typeParameterDescriptor, objectAnnotations,
-                            typeSystem::supportsAsNativeType));
+                        new FieldInfo(classInfo, field, typeParameterDescriptor, objectAnnotations, typeSystem));
                 }
             }
         }
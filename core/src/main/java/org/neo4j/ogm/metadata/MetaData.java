@@ -20,11 +20,13 @@ package org.neo4j.ogm.metadata;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -47,7 +49,20 @@ public class MetaData {
 
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+    /**
+     * Maximum number of names without a class info that are remembered. Dynamic labels are not known to the domain and
+     * are arbitrary, so they must not grow the cache without limit.
+     */
+    private static final int MAX_CACHED_UNKNOWN_NAMES = 1_000;
+
+    private final Map<String, Optional<ClassInfo>> classInfos = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedUnknownNames = new AtomicInteger();
+    /**
+     * Resolved base classes of nodes with a single known label, avoiding the creation of a {@link LabelSet}. Only
+     * labels known to the domain are used as keys, so both caches are bounded by the domain.
+     */
+    private final Map<String, Optional<ClassInfo>> resolvedLabels = new ConcurrentHashMap<>();
+    private final Map<LabelSet, Optional<ClassInfo>> resolvedLabelSets = new ConcurrentHashMap<>();
 
     public MetaData(String... packages) {
         this(NoNativeTypes.INSTANCE, packages);
@@ -70,31 +85,30 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
+        Optional<ClassInfo> classInfo = classInfos.get(name);
+        if (classInfo == null) {
+            classInfo = Optional.ofNullable(findClassInfo(name));
+            if (classInfo.isPresent() || cachedUnknownNames.incrementAndGet() <= MAX_CACHED_UNKNOWN_NAMES) {
+                classInfos.put(name, classInfo);
+            }
         }
+        return classInfo.orElse(null);
+    }
+
+    private ClassInfo findClassInfo(String name) {
 
         ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), NodeEntity.LABEL);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
         classInfo = _classInfo(name, RelationshipEntity.class.getName(), RelationshipEntity.TYPE);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
-        // not found
-        classInfos.put(name, null);
-        return null;
+        // may be null if not found
+        return domainInfo.getClassSimpleName(name);
     }
 
     /**
@@ -156,6 +170,51 @@ public class MetaData {
      */
     public ClassInfo resolve(String... taxa) {
 
+        // Labels not known to the domain, like dynamic labels, don't change the result and are not part of the keys
+        String[] knownTaxa = knownTaxa(taxa);
+
+        Optional<ClassInfo> resolved;
+        if (knownTaxa.length == 0) {
+            resolved = Optional.empty();
+        } else if (knownTaxa.length == 1) {
+            resolved = resolvedLabels.get(knownTaxa[0]);
+            if (resolved == null) {
+                resolved = Optional.ofNullable(resolveUncached(knownTaxa));
+                resolvedLabels.put(knownTaxa[0], resolved);
+            }
+        } else {
+            resolved = resolvedLabelSets.get(new LabelSet(knownTaxa));
+            if (resolved == null) {
+                resolved = Optional.ofNullable(resolveUncached(taxa));
+                resolvedLabelSets.put(new LabelSet(knownTaxa == taxa ? taxa.clone() : knownTaxa), resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    private String[] knownTaxa(String[] taxa) {
+
+        int unknown = 0;
+        for (String taxon : taxa) {
+            if (classInfo(taxon) == null) {
+                unknown++;
+            }
+        }
+        if (unknown == 0) {
+            return taxa;
+        }
+        String[] knownTaxa = new String[taxa.length - unknown];
+        int i = 0;
+        for (String taxon : taxa) {
+            if (classInfo(taxon) != null) {
+                knownTaxa[i++] = taxon;
+            }
+        }
+        return knownTaxa;
+    }
+
+    private ClassInfo resolveUncached(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -314,4 +373,35 @@ public class MetaData {
         this.domainInfo.registerConversionCallback(conversionCallback);
     }
 
+    /**
+     * A set of labels used as key for resolved base classes. The labels are compared in order, which is stable for
+     * the labels of a node returned from the database.
+     */
+    private static final class LabelSet {
+
+        private final String[] labels;
+        private final int hashCode;
+
+        LabelSet(String[] labels) {
+            this.labels = labels;
+            this.hashCode = Arrays.hashCode(labels);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LabelSet)) {
+                return false;
+            }
+            LabelSet that = (LabelSet) o;
+            return hashCode == that.hashCode && Arrays.equals(labels, that.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
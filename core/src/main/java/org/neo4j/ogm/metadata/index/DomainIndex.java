@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A build time generated index of the class names available for mapping, used instead of scanning the classpath.
+ * The index is created by the {@link DomainIndexProcessor} and stored as a plain list of binary class names, one per
+ * line, in {@value #LOCATION}. All index files on the classpath are merged.
+ * <p>
+ * Each index file lists the packages it covers on lines starting with {@value #PACKAGE_PREFIX}. Only those packages are
+ * taken from the index, as other jars may contribute classes to packages that just happen to contain indexed classes.
+ * <p>
+ * The index can be ignored by setting the system property {@value #IGNORE_INDEX_PROPERTY} to {@literal true}.
+ */
+public final class DomainIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainIndex.class);
+
+    /**
+     * Location of the index files.
+     */
+    public static final String LOCATION = "META-INF/neo4j-ogm/domain.index";
+
+    /**
+     * System property to ignore any index present on the classpath and to always scan.
+     */
+    public static final String IGNORE_INDEX_PROPERTY = "neo4j.ogm.index.ignore";
+
+    /**
+     * Prefix of the lines naming an indexed package.
+     */
+    public static final String PACKAGE_PREFIX = "package ";
+
+    private static final DomainIndex EMPTY = new DomainIndex(Collections.emptySet(), Collections.emptySet());
+
+    private final Set<String> classNames;
+
+    private final Set<String> packageNames;
+
+    DomainIndex(Collection<String> classNames, Collection<String> packageNames) {
+        this.classNames = Collections.unmodifiableSet(new TreeSet<>(classNames));
+        this.packageNames = Collections.unmodifiableSet(new TreeSet<>(packageNames));
+    }
+
+    /**
+     * Loads and merges all index files visible to the given class loader.
+     *
+     * @param classLoader The class loader used to look up {@value #LOCATION}
+     * @return The merged index, which is empty if there are no index files or if the index is ignored.
+     */
+    public static DomainIndex load(ClassLoader classLoader) {
+
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return EMPTY;
+        }
+
+        Set<String> classNames = new TreeSet<>();
+        Set<String> packageNames = new TreeSet<>();
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(LOCATION);
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+                LOGGER.debug("Reading domain index {}", indexFile);
+                for (String entry : read(indexFile)) {
+                    if (entry.startsWith(PACKAGE_PREFIX)) {
+                        packageNames.add(entry.substring(PACKAGE_PREFIX.length()).trim());
+                    } else {
+                        classNames.add(entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read domain index from " + LOCATION, e);
+        }
+        return packageNames.isEmpty() ? EMPTY : new DomainIndex(classNames, packageNames);
+    }
+
+    static Set<String> read(URL indexFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(indexFile.openStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                .map(String::trim)
+                .filter(line -> !(line.isEmpty() || line.startsWith("#")))
+                .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    public boolean isEmpty() {
+        return packageNames.isEmpty();
+    }
+
+    /**
+     * Checks whether the index lists exactly the given package or the package of the given class. A package is not
+     * covered by the index of one of its parent packages, as its classes may come from a jar without an index.
+     * Likewise, a package is not covered if the index knows classes of sub packages that are not listed themselves.
+     *
+     * @param packageOrClassName A package name or a fully qualified class name as passed to the session factory
+     * @return True, if the package or the package of the class is indexed
+     */
+    public boolean covers(String packageOrClassName) {
+        if (packageNames.contains(packageOrClassName)) {
+            return classNames.stream()
+                .filter(className -> matches(packageOrClassName, className))
+                .allMatch(className -> packageNames.contains(packageOf(className)));
+        }
+        return classNames.contains(packageOrClassName)
+            && packageNames.contains(packageOf(packageOrClassName));
+    }
+
+    /**
+     * Retrieves the names of all indexed classes in the given package or the class itself together with its nested
+     * classes. Classes of sub packages are only included if their own package is listed in the index.
+     *
+     * @param packageOrClassName A package name or a fully qualified class name as passed to the session factory
+     * @return The names of the matching classes
+     */
+    public Set<String> getClassNames(String packageOrClassName) {
+        return classNames.stream()
+            .filter(className -> matches(packageOrClassName, className))
+            .filter(className -> packageNames.contains(packageOf(className)))
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static String packageOf(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+    private static boolean matches(String packageOrClassName, String className) {
+        return packageOrClassName.isEmpty()
+            || className.equals(packageOrClassName)
+            || className.startsWith(packageOrClassName + ".")
+            || className.startsWith(packageOrClassName + "$");
+    }
+}
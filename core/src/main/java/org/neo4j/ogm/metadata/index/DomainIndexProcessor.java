@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.index;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the {@link DomainIndex} for all types of a compilation unit, together with the
+ * packages containing them. It is not registered automatically and has to be added explicitly to the compiler, for
+ * example with {@code -processor org.neo4j.ogm.metadata.index.DomainIndexProcessor} or through the
+ * {@code annotationProcessors} configuration of the Maven compiler plugin.
+ * <p>
+ * The index only reflects the classes of a full compilation. Incremental builds must either recompile all domain
+ * classes or disable the index.
+ */
+@SupportedAnnotationTypes("*")
+public class DomainIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    private final Set<String> packageNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(typeElement);
+                packageNames.add(packageElement.getQualifiedName().toString());
+                collect(typeElement);
+            }
+        }
+        return false;
+    }
+
+    private void collect(TypeElement typeElement) {
+
+        classNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        for (Element enclosedElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            collect((TypeElement) enclosedElement);
+        }
+    }
+
+    private void writeIndex() {
+
+        if (classNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", DomainIndex.LOCATION);
+            try (Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String packageName : packageNames) {
+                    writer.write(DomainIndex.PACKAGE_PREFIX);
+                    writer.write(packageName);
+                    writer.write('\n');
+                }
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Could not write " + DomainIndex.LOCATION + ": " + e);
+        }
+    }
+}
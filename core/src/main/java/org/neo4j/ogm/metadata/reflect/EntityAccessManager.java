@@ -29,6 +29,7 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.DescriptorMappings;
 import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.support.PrimitiveArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +75,14 @@ public class EntityAccessManager {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static Object merge(Class<?> parameterType, Object newValues, Collection currentValues, Class elementType) {
 
+        if (parameterType.isArray() && parameterType.getComponentType().isPrimitive()
+            && newValues != null && (currentValues == null || currentValues.isEmpty())) {
+            Object array = toPrimitiveArray(parameterType.getComponentType(), newValues);
+            if (array != null) {
+                return array;
+            }
+        }
+
         //While we expect newValues to be an iterable, there are a couple of exceptions
 
         if (newValues != null) {
@@ -202,6 +211,81 @@ public class EntityAccessManager {
         return value;
     }
 
+    /**
+     * Copies the values into a new array of the given primitive type without boxing them, if the values are either
+     * an array of that type or a collection of numbers to be stored in a {@code long[]}, {@code double[]} or
+     * {@code int[]}.
+     *
+     * @param componentType The primitive component type of the array to create
+     * @param values        The values to copy
+     * @return A new array or null, if there is no fast path for the given values
+     */
+    private static Object toPrimitiveArray(Class<?> componentType, Object values) {
+
+        if (values instanceof PrimitiveArrayList && ((PrimitiveArrayList) values).getArray() != null) {
+            values = ((PrimitiveArrayList) values).getArray();
+        }
+
+        if (values.getClass().isArray()) {
+            if (values.getClass().getComponentType() != componentType) {
+                return null;
+            }
+            int length = Array.getLength(values);
+            Object array = Array.newInstance(componentType, length);
+            System.arraycopy(values, 0, array, 0, length);
+            return array;
+        }
+
+        if (!(values instanceof Collection)) {
+            return null;
+        }
+
+        Collection<?> collection = (Collection<?>) values;
+        if (componentType == long.class) {
+            long[] array = new long[collection.size()];
+            int i = 0;
+            for (Object value : collection) {
+                Object coerced = Utils.coerceTypes(long.class, value);
+                if (coerced instanceof Long) {
+                    array[i] = (Long) coerced;
+                } else {
+                    Array.set(array, i, coerced);
+                }
+                i++;
+            }
+            return array;
+        }
+        if (componentType == double.class) {
+            double[] array = new double[collection.size()];
+            int i = 0;
+            for (Object value : collection) {
+                Object coerced = Utils.coerceTypes(double.class, value);
+                if (coerced instanceof Double) {
+                    array[i] = (Double) coerced;
+                } else {
+                    Array.set(array, i, coerced);
+                }
+                i++;
+            }
+            return array;
+        }
+        if (componentType == int.class) {
+            int[] array = new int[collection.size()];
+            int i = 0;
+            for (Object value : collection) {
+                Object coerced = Utils.coerceTypes(int.class, value);
+                if (coerced instanceof Integer) {
+                    array[i] = (Integer) coerced;
+                } else {
+                    Array.set(array, i, coerced);
+                }
+                i++;
+            }
+            return array;
+        }
+        return null;
+    }
+
     private static Object boxPrimitiveArray(Object value) {
         if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
             switch (value.getClass().getComponentType().toString()) {
@@ -257,10 +341,6 @@ public class EntityAccessManager {
         return value;
     }
 
-    private static Map<ClassInfo, Map<DirectedRelationship, FieldInfo>> relationalReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> relationalWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> iterableWriterCache = new HashMap<>();
-
     private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
     private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
 
@@ -290,17 +370,19 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalWriter(ClassInfo classInfo, String relationshipType,
         String relationshipDirection, Class<?> objectType) {
 
-        if (!relationalWriterCache.containsKey(classInfo)) {
-            relationalWriterCache.put(classInfo, new HashMap<>());
-        }
-
         DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType,
             relationshipDirection, objectType);
-        if (relationalWriterCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalWriterCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> writer = classInfo.relationalWriters().get(directedRelationship);
+        if (writer == null) {
+            writer = Optional.ofNullable(
+                findRelationalWriter(classInfo, relationshipType, relationshipDirection, objectType));
+            classInfo.relationalWriters().put(directedRelationship, writer);
         }
+        return writer.orElse(null);
+    }
 
-        ClassInfo lookupClassInfo = classInfo;
+    private static FieldInfo findRelationalWriter(ClassInfo classInfo, String relationshipType,
+        String relationshipDirection, Class<?> objectType) {
 
         while (classInfo != null) {
 
@@ -311,7 +393,6 @@ public class EntityAccessManager {
                     if (fieldInfo.isTypeOf(objectType) ||
                         fieldInfo.isParameterisedTypeOf(objectType) ||
                         fieldInfo.isArrayOf(objectType)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                         return fieldInfo;
                     }
                 }
@@ -329,7 +410,6 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                             return fieldInfo;
                         }
                     }
@@ -341,7 +421,6 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                             return fieldInfo;
                         }
                     }
@@ -353,7 +432,6 @@ public class EntityAccessManager {
                     FieldInfo candidateFieldInfo = fieldInfos.iterator().next();
                     if (!candidateFieldInfo.relationshipDirection(Relationship.UNDIRECTED)
                         .equals(Relationship.INCOMING)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, candidateFieldInfo);
                         return candidateFieldInfo;
                     }
                 }
@@ -361,7 +439,6 @@ public class EntityAccessManager {
             // walk up the object hierarchy
             classInfo = classInfo.directSuperclass();
         }
-        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, null);
         return null;
     }
 
@@ -376,22 +453,22 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalReader(ClassInfo classInfo, String relationshipType,
         String relationshipDirection) {
 
-        if (!relationalReaderCache.containsKey(classInfo)) {
-            relationalReaderCache.put(classInfo, new HashMap<>());
-        }
-
         DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
-        if (relationalReaderCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalReaderCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> reader = classInfo.relationalReaders().get(directedRelationship);
+        if (reader == null) {
+            reader = Optional.ofNullable(findRelationalReader(classInfo, relationshipType, relationshipDirection));
+            classInfo.relationalReaders().put(directedRelationship, reader);
         }
+        return reader.orElse(null);
+    }
 
-        ClassInfo lookupClassInfo = classInfo;
+    private static FieldInfo findRelationalReader(ClassInfo classInfo, String relationshipType,
+        String relationshipDirection) {
 
         while (classInfo != null) {
             // 1st, try to find a field explicitly annotated with the neo4j relationship type and direction
             FieldInfo fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, STRICT_MODE);
             if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                 return fieldInfo;
             }
 
@@ -402,19 +479,16 @@ public class EntityAccessManager {
                 // 3rd, try to find a field  annotated with the neo4j relationship type and direction, allowing for implied relationships
                 fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, INFERRED_MODE);
                 if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                     return fieldInfo;
                 }
 
                 // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
                 if (fieldInfo != null) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
                     return fieldInfo;
                 }
             }
             classInfo = classInfo.directSuperclass();
         }
-        relationalReaderCache.get(lookupClassInfo).put(directedRelationship, null);
         return null;
     }
 
@@ -429,16 +503,25 @@ public class EntityAccessManager {
      */
     public static FieldInfo getIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
         String relationshipDirection) {
-        if (!iterableWriterCache.containsKey(classInfo)) {
-            iterableWriterCache.put(classInfo, new HashMap<>());
-        }
+
         DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType,
             relationshipDirection, parameterType);
-        if (iterableWriterCache.get(classInfo).containsKey(directedRelationshipForType)) {
-            return iterableWriterCache.get(classInfo).get(directedRelationshipForType);
+        Optional<FieldInfo> writer = classInfo.iterableWriters().get(directedRelationshipForType);
+        if (writer == null) {
+            writer = Optional.ofNullable(
+                findIterableField(classInfo, parameterType, relationshipType, relationshipDirection));
+            classInfo.iterableWriters().put(directedRelationshipForType, writer);
+            if (writer.isPresent() && writer.get().isParameterisedTypeOf(parameterType)) {
+                //Cache the writer for the superclass used in the type param as well
+                classInfo.iterableWriters().put(new DirectedRelationshipForType(relationshipType,
+                    relationshipDirection, DescriptorMappings.getType(writer.get().getTypeDescriptor())), writer);
+            }
         }
+        return writer.orElse(null);
+    }
 
-        ClassInfo lookupClassInfo = classInfo;
+    private static FieldInfo findIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
+        String relationshipDirection) {
 
         while (classInfo != null) {
 
@@ -446,8 +529,6 @@ public class EntityAccessManager {
             FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType,
                 relationshipDirection, STRICT_MODE);
             if (fieldInfo != null) {
-                cacheIterableFieldWriter(lookupClassInfo, parameterType, relationshipType, relationshipDirection,
-                    directedRelationshipForType, fieldInfo, fieldInfo);
                 return fieldInfo;
             }
 
@@ -459,14 +540,11 @@ public class EntityAccessManager {
                 fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection,
                     INFERRED_MODE);
                 if (fieldInfo != null) {
-                    cacheIterableFieldWriter(lookupClassInfo, parameterType, relationshipType, relationshipDirection,
-                        directedRelationshipForType, fieldInfo, fieldInfo);
                     return fieldInfo;
                 }
             }
             classInfo = classInfo.directSuperclass();
         }
-        iterableWriterCache.get(lookupClassInfo).put(directedRelationshipForType, null);
         return null;
     }
 
@@ -508,15 +586,4 @@ public class EntityAccessManager {
 
         return null;
     }
-
-    private static void cacheIterableFieldWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
-        String relationshipDirection, DirectedRelationshipForType directedRelationshipForType, FieldInfo fieldInfo,
-        FieldInfo fieldAccessor) {
-        if (fieldInfo.isParameterisedTypeOf(parameterType)) {
-            //Cache the writer for the superclass used in the type param
-            directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection,
-                DescriptorMappings.getType(fieldInfo.getTypeDescriptor()));
-        }
-        iterableWriterCache.get(classInfo).put(directedRelationshipForType, fieldAccessor);
-    }
 }
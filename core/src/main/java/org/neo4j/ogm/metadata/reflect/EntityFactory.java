@@ -19,7 +19,6 @@
 package org.neo4j.ogm.metadata.reflect;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.neo4j.ogm.exception.core.BaseClassNotFoundException;
@@ -27,7 +26,6 @@ import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.session.EntityInstantiator;
 
 /**
@@ -38,8 +36,6 @@ import org.neo4j.ogm.session.EntityInstantiator;
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
-
     private final MetaData metadata;
     private EntityInstantiator entityInstantiator;
 
@@ -75,12 +71,7 @@ public class EntityFactory {
      * @throws MappingException if it's not possible to resolve or instantiate a class from the given argument
      */
     public <T> T newObject(Node nodeModel) {
-        Map<String, Object> map = new HashMap<>();
-
-        for (Property<String, Object> property : nodeModel.getPropertyList()) {
-            map.put(property.getKey(), property.getValue());
-        }
-        return instantiateObjectFromTaxa(nodeModel.getLabels(), map);
+        return instantiateObjectFromTaxa(nodeModel.getLabels(), nodeModel.getPropertyMap());
     }
 
     /**
@@ -100,28 +91,16 @@ public class EntityFactory {
             throw new BaseClassNotFoundException("<null>");
         }
 
-        String fqn = resolve(taxa);
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new BaseClassNotFoundException(Arrays.toString(taxa));
+        }
 
         @SuppressWarnings("unchecked")
-        Class<T> loadedClass = (Class<T>) metadata.classInfo(fqn).getUnderlyingClass();
+        Class<T> loadedClass = (Class<T>) classInfo.getUnderlyingClass();
         return instantiate(loadedClass, propertyValues);
     }
 
-    private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
-
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo == null) {
-                throw new BaseClassNotFoundException(Arrays.toString(taxa));
-            }
-            fqn = classInfo.name();
-            taxaLeafClass.put(Arrays.toString(taxa), fqn);
-        }
-        return fqn;
-    }
-
     private <T> T instantiate(Class<T> loadedClass, Map<String, Object> propertyValues) {
         return entityInstantiator.createInstance(loadedClass, propertyValues);
     }
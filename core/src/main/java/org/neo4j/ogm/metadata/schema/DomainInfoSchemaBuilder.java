@@ -127,7 +127,7 @@ public class DomainInfoSchemaBuilder {
 
         RelationshipImpl relationship = new RelationshipImpl(relFieldInfo.relationshipType(),
             relFieldInfo.relationshipDirection(),
-            fromNode, toNode);
+            fromNode, toNode, relFieldInfo.relationshipLoadLimit());
 
         // add relationship only to fromNode, not adding to toNode because
         // - it might not declare the relationship
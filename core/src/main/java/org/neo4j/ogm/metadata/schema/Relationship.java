@@ -51,4 +51,13 @@ public interface Relationship {
      * @return the other node
      */
     Node other(Node node);
+
+    /**
+     * Maximum number of relationships loaded from the declaring node
+     *
+     * @return the limit, negative if unlimited
+     */
+    default int loadLimit() {
+        return -1;
+    }
 }
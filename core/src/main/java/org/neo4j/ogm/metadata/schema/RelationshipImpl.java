@@ -35,11 +35,18 @@ class RelationshipImpl implements Relationship {
     private final NodeImpl start;
     private final NodeImpl end;
 
+    private final int loadLimit;
+
     RelationshipImpl(String type, String direction, NodeImpl start, NodeImpl end) {
+        this(type, direction, start, end, -1);
+    }
+
+    RelationshipImpl(String type, String direction, NodeImpl start, NodeImpl end, int loadLimit) {
         this.type = requireNonNull(type);
         this.direction = requireNonNull(direction);
         this.start = requireNonNull(start);
         this.end = requireNonNull(end);
+        this.loadLimit = loadLimit;
     }
 
     @Override
@@ -96,6 +103,11 @@ class RelationshipImpl implements Relationship {
         }
     }
 
+    @Override
+    public int loadLimit() {
+        return loadLimit;
+    }
+
     @Override
     public String toString() {
         return "RelationshipImpl{" +
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A named selection of relationship paths to load together with an entity, used instead of a uniform depth. A path
+ * is a dot separated list of relationship names as declared in the domain classes, starting at the loaded class, for
+ * example {@code actors.agent} when loading a {@code Movie}. A path implies all its prefixes, relationships not
+ * covered by any path are not loaded.
+ * <p>
+ * Fetch plans are compiled into nested pattern comprehensions as used by {@link LoadStrategy#SCHEMA_LOAD_STRATEGY},
+ * regardless of the load strategy of the session, and are only supported for node entities.
+ */
+public final class FetchPlan {
+
+    private final String name;
+    private final Set<String> paths;
+    private final Set<String> expandedPaths;
+    private final int depth;
+    private final Map<String, Integer> loadLimits;
+
+    private FetchPlan(String name, String... paths) {
+
+        this.name = name;
+        this.loadLimits = Collections.emptyMap();
+        this.paths = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(paths)));
+
+        Set<String> allPaths = new LinkedHashSet<>();
+        int maxDepth = 0;
+        for (String path : paths) {
+            if (path == null || path.isEmpty() || path.startsWith(".") || path.endsWith(".") || path.contains("..")) {
+                throw new IllegalArgumentException("Invalid path '" + path + "' in fetch plan " + name);
+            }
+            String[] segments = path.split("\\.");
+            StringBuilder prefix = new StringBuilder();
+            for (String segment : segments) {
+                if (prefix.length() > 0) {
+                    prefix.append('.');
+                }
+                allPaths.add(prefix.append(segment).toString());
+            }
+            maxDepth = Math.max(maxDepth, segments.length);
+        }
+        this.expandedPaths = Collections.unmodifiableSet(allPaths);
+        this.depth = maxDepth;
+    }
+
+    private FetchPlan(FetchPlan source, Map<String, Integer> loadLimits) {
+        this.name = source.name;
+        this.paths = source.paths;
+        this.expandedPaths = source.expandedPaths;
+        this.depth = source.depth;
+        this.loadLimits = Collections.unmodifiableMap(loadLimits);
+    }
+
+    /**
+     * Creates a named fetch plan.
+     *
+     * @param name  The name of the plan, used for logging
+     * @param paths The relationship paths to load
+     * @return The new fetch plan
+     */
+    public static FetchPlan named(String name, String... paths) {
+        return new FetchPlan(name, paths);
+    }
+
+    /**
+     * Creates a copy of this plan that loads at most {@code limit} relationships along the last segment of the
+     * given path, overriding any {@link org.neo4j.ogm.annotation.Relationship#loadLimit()} of the field.
+     *
+     * @param path  A path of this plan or a prefix of one
+     * @param limit The maximum number of relationships to load, negative for unlimited
+     * @return The new fetch plan
+     */
+    public FetchPlan withLoadLimit(String path, int limit) {
+        if (!includes(path)) {
+            throw new IllegalArgumentException("Path '" + path + "' is not part of fetch plan " + name);
+        }
+        Map<String, Integer> newLoadLimits = new HashMap<>(loadLimits);
+        newLoadLimits.put(path, limit);
+        return new FetchPlan(this, newLoadLimits);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return The length of the longest path
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @param path A dot separated path of relationship names
+     * @return True, if the path is one of the paths of this plan or a prefix of one
+     */
+    public boolean includes(String path) {
+        return expandedPaths.contains(path);
+    }
+
+    /**
+     * @param path         A dot separated path of relationship names
+     * @param defaultLimit The limit to use if none is defined for the path
+     * @return The maximum number of relationships to load along the last segment of the path
+     */
+    public int getLoadLimit(String path, int defaultLimit) {
+        return loadLimits.getOrDefault(path, defaultLimit);
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan{" + name + ": " + paths + "}";
+    }
+}
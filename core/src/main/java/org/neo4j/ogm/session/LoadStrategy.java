@@ -35,5 +35,13 @@ public enum LoadStrategy {
      * entity classes
      * NOTE: Does not support queries with unlimited depth
      */
-    SCHEMA_LOAD_STRATEGY;
+    SCHEMA_LOAD_STRATEGY,
+
+    /**
+     * Load strategy which loads the matched nodes with their direct relationships like {@link #SCHEMA_LOAD_STRATEGY}
+     * and then loads the next level of related nodes for the nodes reached so far in batched follow up queries,
+     * until the requested depth is reached. This avoids the large nested lists of deep pattern comprehensions.
+     * NOTE: Does not support queries with unlimited depth, fetch plans are always loaded in a single query
+     */
+    SPLIT_LOAD_STRATEGY;
 }
@@ -21,11 +21,13 @@ package org.neo4j.ogm.session;
 import static java.util.Collections.*;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.WriteProtectionTarget;
@@ -33,6 +35,7 @@ import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.driver.ConnectionPoolStatistics;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -50,7 +53,10 @@ import org.neo4j.ogm.session.delegates.LoadOneDelegate;
 import org.neo4j.ogm.session.delegates.SaveDelegate;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.metrics.MetricsListener.Operation;
 import org.neo4j.ogm.session.request.OptimisticLockingChecker;
+import org.neo4j.ogm.session.request.ResultLimits;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
@@ -59,7 +65,10 @@ import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBui
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaRelationshipLoadClauseBuilder;
+import org.neo4j.ogm.session.tracing.QueryTracer;
+import org.neo4j.ogm.session.tracing.QueryTracing;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.session.transaction.TransactionRetryLogic;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWorkWithoutResult;
 import org.neo4j.ogm.transaction.Transaction;
@@ -94,28 +103,60 @@ public class Neo4jSession implements Session {
     private EntityInstantiator entityInstantiator;
 
     private Driver driver;
-    private String bookmark;
+    /**
+     * Volatile, as a {@link SharedReadOnlySession} is used by several threads.
+     */
+    private volatile String bookmark;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
-    public Neo4jSession(MetaData metaData, Driver driver) {
-
-        this.metaData = metaData;
-        this.driver = driver;
+    private MetricsListener metricsListener;
+    private QueryTracer queryTracer;
+    private ResultLimits resultLimits;
+    private OperationState operationState;
+    private TransactionRetryLogic transactionRetryLogic;
 
-        this.mappingContext = new MappingContext(metaData);
-        this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier());
-        this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
-        this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+    public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, new SessionSettings.Builder().build());
     }
 
     public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
         LoadStrategy loadStrategy, EntityInstantiator entityInstantiator) {
-        this(metaData, driver);
-        registeredEventListeners.addAll(eventListeners);
+        this(metaData, driver, new SessionSettings.Builder()
+            .eventListeners(eventListeners)
+            .loadStrategy(loadStrategy)
+            .entityInstantiator(entityInstantiator)
+            .build());
+    }
 
-        this.loadStrategy = loadStrategy;
-        this.entityInstantiator = entityInstantiator;
+    /**
+     * Creates a session with the settings of a {@link SessionFactory}.
+     *
+     * @param metaData The meta-data of the session factory
+     * @param driver   The driver to use
+     * @param settings The settings of the session, including the result limits used by this session only
+     */
+    protected Neo4jSession(MetaData metaData, Driver driver, SessionSettings settings) {
+        this(metaData, driver, settings, new MappingContext(metaData));
+    }
+
+    Neo4jSession(MetaData metaData, Driver driver, SessionSettings settings, MappingContext mappingContext) {
+
+        this.metaData = metaData;
+        this.driver = driver;
+
+        this.mappingContext = mappingContext;
+        this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier());
+        this.registeredEventListeners.addAll(settings.getEventListeners());
+        this.loadStrategy = settings.getLoadStrategy();
+        this.entityInstantiator = settings.getEntityInstantiator() == null ?
+            new ReflectionEntityInstantiator(metaData) :
+            settings.getEntityInstantiator();
+        this.metricsListener = settings.getMetricsListener();
+        this.queryTracer = settings.getQueryTracer();
+        this.resultLimits = settings.getResultLimits();
+        this.operationState = newOperationState();
+        this.transactionRetryLogic = settings.getTransactionRetryLogic();
     }
 
     @Override
@@ -170,12 +211,17 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T, ID extends Serializable> T load(Class<T> type, ID id) {
-        return loadOneHandler.load(type, id);
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id));
     }
 
     @Override
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
-        return loadOneHandler.load(type, id, depth);
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id, depth));
+    }
+
+    @Override
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id, fetchPlan));
     }
 
     /*
@@ -185,124 +231,137 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T> Collection<T> loadAll(Class<T> type) {
-        return loadByTypeHandler.loadAll(type);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, int depth) {
-        return loadByTypeHandler.loadAll(type, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging) {
-        return loadByTypeHandler.loadAll(type, paging);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, paging));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging, int depth) {
-        return loadByTypeHandler.loadAll(type, paging, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, paging, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter) {
-        return loadByTypeHandler.loadAll(type, filter);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filter, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination,
         int depth) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters) {
-        return loadByTypeHandler.loadAll(type, filters);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filters, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth));
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan) {
+        return loadAll(type, new Filters(), new SortOrder(), null, fetchPlan);
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, fetchPlan));
     }
 
     /*
@@ -312,46 +371,46 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids) {
-        return loadByIdsHandler.loadAll(type, ids);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, int depth) {
-        return loadByIdsHandler.loadAll(type, ids, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         int depth) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging) {
-        return loadByIdsHandler.loadAll(type, ids, paging);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, paging));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging,
         int depth) {
-        return loadByIdsHandler.loadAll(type, ids, paging, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, paging, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, pagination));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination, int depth) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, pagination, depth));
     }
 
     /*
@@ -361,42 +420,43 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects) {
-        return loadByInstancesDelegate.loadAll(objects, 1);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, 1));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, Pagination pagination) {
-        return loadByInstancesDelegate.loadAll(objects, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, Pagination pagination, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, Pagination pagination) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, Pagination pagination, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL,
+            () -> loadByInstancesDelegate.loadAll(objects, sortOrder, pagination, depth));
     }
 
     /*
@@ -406,32 +466,32 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> T queryForObject(Class<T> type, String cypher, Map<String, ?> parameters) {
-        return executeQueriesDelegate.queryForObject(type, cypher, parameters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.queryForObject(type, cypher, parameters));
     }
 
     @Override
     public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
-        return executeQueriesDelegate.query(type, cypher, parameters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.query(type, cypher, parameters));
     }
 
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
-        return executeQueriesDelegate.query(cypher, parameters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.query(cypher, parameters));
     }
 
     @Override
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
-        return executeQueriesDelegate.query(cypher, parameters, readOnly);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.query(cypher, parameters, readOnly));
     }
 
     @Override
     public long countEntitiesOfType(Class<?> entity) {
-        return executeQueriesDelegate.countEntitiesOfType(entity);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.countEntitiesOfType(entity));
     }
 
     @Override
     public long count(Class<?> clazz, Iterable<Filter> filters) {
-        return executeQueriesDelegate.count(clazz, filters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.count(clazz, filters));
     }
 
     /*
@@ -441,22 +501,22 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
-        deleteDelegate.purgeDatabase();
+        measure(Operation.DELETE, () -> deleteDelegate.purgeDatabase());
     }
 
     @Override
     public <T> void delete(T object) {
-        deleteDelegate.delete(object);
+        measure(Operation.DELETE, () -> deleteDelegate.delete(object));
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
-        deleteDelegate.deleteAll(type);
+        measure(Operation.DELETE, () -> deleteDelegate.deleteAll(type));
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
-        return deleteDelegate.delete(type, filters, listResults);
+        return measure(Operation.DELETE, () -> deleteDelegate.delete(type, filters, listResults));
     }
 
     /*
@@ -466,12 +526,12 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
-        saveDelegate.save(object);
+        measure(Operation.SAVE, () -> saveDelegate.save(object));
     }
 
     @Override
     public <T> void save(T object, int depth) {
-        saveDelegate.save(object, depth);
+        measure(Operation.SAVE, () -> saveDelegate.save(object, depth));
     }
 
     // Not part of {@link Session} interface on purpose for the time being
@@ -530,6 +590,33 @@ public class Neo4jSession implements Session {
         return txManager.openTransaction(type, bookmarks);
     }
 
+    @Override
+    public <T> T readTransaction(Supplier<T> work) {
+        return runTransactionFunction(work, Transaction.Type.READ_ONLY);
+    }
+
+    @Override
+    public <T> T writeTransaction(Supplier<T> work) {
+        return runTransactionFunction(work, Transaction.Type.READ_WRITE);
+    }
+
+    private <T> T runTransactionFunction(Supplier<T> work, Transaction.Type txType) {
+
+        // Only the outermost transaction can be retried
+        if (txManager.getCurrentTransaction() != null) {
+            return work.get();
+        }
+
+        TransactionalUnitOfWork<T> unitOfWork = work::get;
+        mappingContext.startRecording();
+        try {
+            return transactionRetryLogic.retry(() -> doInTransaction(unitOfWork, true, txType),
+                mappingContext::detachRecordedEntities);
+        } finally {
+            mappingContext.stopRecording();
+        }
+    }
+
     /**
      * @see Neo4jSession#doInTransaction(TransactionalUnitOfWork, org.neo4j.ogm.transaction.Transaction.Type)
      * @param function The code to execute.
@@ -572,7 +659,8 @@ public class Neo4jSession implements Session {
         boolean newTransaction = false;
         try {
             if (forceTx || (driver.requiresTransaction() && transaction == null)) {
-                transaction = beginTransaction(txType);
+                // Chain the last bookmark, so that a read routed to a follower sees the writes of this session
+                transaction = beginTransaction(txType, bookmark == null ? emptySet() : singleton(bookmark));
                 newTransaction = true;
             }
 
@@ -639,6 +727,16 @@ public class Neo4jSession implements Session {
         }
     }
 
+    public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, FetchPlan fetchPlan) {
+        if (metaData.isRelationshipEntity(type.getName())) {
+            throw new IllegalArgumentException("Fetch plans are only supported for node entities, not for " + type);
+        }
+        final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
+        String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
+        return new NodeQueryStatements<>(primaryIdName,
+            new SchemaNodeLoadClauseBuilder(metaData.getSchema(), fetchPlan));
+    }
+
     public String entityType(String name) {
         return metaData.entityType(name);
     }
@@ -661,7 +759,9 @@ public class Neo4jSession implements Session {
     }
 
     public Request requestHandler() {
-        return driver.request(this.txManager.getCurrentTransaction());
+        OperationState state = operationState();
+        Request request = state.resultLimits.limit(driver.request(this.txManager.getCurrentTransaction()));
+        return state.queryTracing == null ? request : state.queryTracing.trace(request);
     }
 
     public void warn(String msg) {
@@ -688,6 +788,81 @@ public class Neo4jSession implements Session {
         return entityInstantiator;
     }
 
+    public MetricsListener metricsListener() {
+        return operationState().mapperMetricsListener;
+    }
+
+    public ResultLimits resultLimits() {
+        return operationState().resultLimits;
+    }
+
+    /**
+     * @return The state of the operation of the current thread
+     */
+    OperationState operationState() {
+        return operationState;
+    }
+
+    /**
+     * @return New state for measuring operations, with its own result limits and query tracing
+     */
+    final OperationState newOperationState() {
+        return new OperationState(metricsListener, queryTracer, resultLimits.copy());
+    }
+
+    /**
+     * Runs the given operation and reports its duration, the size of the mapping context and the usage of the connection
+     * pool afterwards to the {@link MetricsListener}. Ends the span of the last request if queries are traced and resets the counts of the
+     * {@link ResultLimits}. Nothing is measured if there is neither a listener, nor a tracer, nor any limit or if this
+     * operation is part of an operation already measured.
+     *
+     * @param operation The operation to report
+     * @param work      The actual work
+     * @param <T>       The type of the result
+     * @return The result of the work
+     */
+    private <T> T measure(Operation operation, Supplier<T> work) {
+
+        OperationState state = operationState();
+        boolean nothingToMeasure = metricsListener == MetricsListener.NOOP && state.queryTracing == null
+            && state.resultLimits.isUnlimited();
+        if (nothingToMeasure || state.measuredOperations > 0) {
+            return work.get();
+        }
+
+        ++state.measuredOperations;
+        state.resultLimits.reset();
+        long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            T result = work.get();
+            successful = true;
+            return result;
+        } finally {
+            --state.measuredOperations;
+            if (state.queryTracing != null) {
+                state.queryTracing.endCurrentSpan();
+            }
+            metricsListener.operationCompleted(operation, System.nanoTime() - start, successful);
+            metricsListener.mappingContextSize(mappingContext.getNodeEntityCount(),
+                mappingContext.getRelationshipEntityCount());
+            if (metricsListener != MetricsListener.NOOP) {
+                ConnectionPoolStatistics poolStatistics = driver.getConnectionPoolStatistics();
+                if (poolStatistics != null) {
+                    metricsListener.connectionPoolUsage(poolStatistics.getLeased(), poolStatistics.getPending(),
+                        poolStatistics.getAvailable(), poolStatistics.getMax());
+                }
+            }
+        }
+    }
+
+    private void measure(Operation operation, Runnable work) {
+        measure(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
     @Override
     public void setLoadStrategy(LoadStrategy loadStrategy) {
         this.loadStrategy = loadStrategy;
@@ -703,6 +878,7 @@ public class Neo4jSession implements Session {
                 return new PathNodeLoadClauseBuilder();
 
             case SCHEMA_LOAD_STRATEGY:
+            case SPLIT_LOAD_STRATEGY:
                 return new SchemaNodeLoadClauseBuilder(metaData.getSchema());
 
             default:
@@ -720,10 +896,45 @@ public class Neo4jSession implements Session {
                 return new PathRelationshipLoadClauseBuilder();
 
             case SCHEMA_LOAD_STRATEGY:
+            case SPLIT_LOAD_STRATEGY:
                 return new SchemaRelationshipLoadClauseBuilder(metaData.getSchema());
 
             default:
                 throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
         }
     }
+
+    /**
+     * The state of the operations measured in one thread.
+     */
+    static final class OperationState {
+
+        /**
+         * The listener passed on to the mappers, notifying {@link #queryTracing} as well.
+         */
+        private final MetricsListener mapperMetricsListener;
+        /**
+         * Tracks the spans of requests if a {@link QueryTracer} is used, otherwise {@literal null}.
+         */
+        private final QueryTracing queryTracing;
+        private final ResultLimits resultLimits;
+        /**
+         * Number of operations currently measured, used to report nested operations only once.
+         */
+        private int measuredOperations;
+
+        private OperationState(MetricsListener metricsListener, QueryTracer queryTracer, ResultLimits resultLimits) {
+
+            this.resultLimits = resultLimits;
+            if (queryTracer == QueryTracer.NOOP) {
+                this.queryTracing = null;
+                this.mapperMetricsListener = metricsListener;
+            } else {
+                this.queryTracing = new QueryTracing(queryTracer);
+                this.mapperMetricsListener = metricsListener == MetricsListener.NOOP ?
+                    queryTracing :
+                    MetricsListener.compose(Arrays.asList(metricsListener, queryTracing));
+            }
+        }
+    }
 }
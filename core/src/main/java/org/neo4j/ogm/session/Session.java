@@ -21,6 +21,7 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
@@ -486,6 +487,33 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load all entities of type together with the relationship paths of the fetch plan.
+     *
+     * @param type      type of entities
+     * @param fetchPlan relationship paths to load
+     * @return collection of entities
+     */
+    default <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan) {
+        return loadAll(type, new Filters(), new SortOrder(), null, fetchPlan);
+    }
+
+    /**
+     * Load all entities of type, filtered by filters, together with the relationship paths of the fetch plan.
+     * Implementations not supporting fetch plans load all relationships up to the depth of the longest path.
+     *
+     * @param type       type of entities
+     * @param filters    filters
+     * @param sortOrder  sort order
+     * @param pagination pagination
+     * @param fetchPlan  relationship paths to load
+     * @return collection of entities
+     */
+    default <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return loadAll(type, filters, sortOrder, pagination, fetchPlan.getDepth());
+    }
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -500,6 +528,16 @@ public interface Session {
      */
     <T, ID extends Serializable> T load(Class<T> type, ID id, int depth);
 
+    /**
+     * Load single entity instance of type together with the relationship paths of the fetch plan. Implementations not
+     * supporting fetch plans load all relationships up to the depth of the longest path.
+     *
+     * @return entity instance, null if not found
+     */
+    default <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return load(type, id, fetchPlan.getDepth());
+    }
+
     /**
      * Save entity(or entities) into the database, up to specified depth
      * The entities are either created or updated.
@@ -598,6 +636,30 @@ public interface Session {
      */
     Transaction beginTransaction(Transaction.Type type, Iterable<String> bookmarks);
 
+    /**
+     * Runs the given unit of work in a new READ_ONLY transaction, which is committed when the work completes. If the
+     * work fails with a transient error, like a cluster leader switch, the transaction is rolled back and the whole
+     * work is retried with an exponential backoff until the configured maximum retry time has elapsed. Entities loaded
+     * or saved by a failed attempt are detached from this session before the work is retried.
+     * <p>
+     * If a transaction is already bound to the current thread, the work joins it and is not retried.
+     *
+     * @param work The unit of work, may be run several times
+     * @param <T>  The type of the result
+     * @return The result of the unit of work
+     */
+    <T> T readTransaction(Supplier<T> work);
+
+    /**
+     * Runs the given unit of work in a new READ_WRITE transaction and retries it on transient errors like a deadlock.
+     *
+     * @param work The unit of work, may be run several times
+     * @param <T>  The type of the result
+     * @return The result of the unit of work
+     * @see #readTransaction(Supplier)
+     */
+    <T> T writeTransaction(Supplier<T> work);
+
     /**
      * a cypher statement this method will return a domain object that is hydrated to the
      * default level or a scalar (depending on the parametrized type).
@@ -23,6 +23,7 @@ import static org.neo4j.ogm.config.AutoIndexMode.*;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
@@ -33,6 +34,11 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
+import org.neo4j.ogm.session.tracing.QueryTracer;
+import org.neo4j.ogm.session.tracing.SlowQueryLog;
+import org.neo4j.ogm.session.transaction.TransactionRetryLogic;
 
 /**
  * This is the main initialization point of OGM. Used to create {@link Session} instances for interacting with Neo4j.
@@ -49,9 +55,14 @@ public class SessionFactory {
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final List<MetricsListener> metricsListeners;
+    private final QueryTracer slowQueryLog;
+    private final ResultLimits resultLimits;
+    private final TransactionRetryLogic transactionRetryLogic;
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private QueryTracer queryTracer = QueryTracer.NOOP;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -103,7 +114,19 @@ public class SessionFactory {
         this.metaData = new MetaData(driver.getTypeSystem(), packages);
         this.driver = driver;
         this.eventListeners = new CopyOnWriteArrayList<>();
+        this.metricsListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+
+        Configuration configuration = driver.getConfiguration();
+        this.slowQueryLog = configuration == null || configuration.getSlowQueryThreshold() == null ?
+            QueryTracer.NOOP :
+            new SlowQueryLog(configuration.getSlowQueryThreshold(), TimeUnit.MILLISECONDS);
+        this.resultLimits = configuration == null ?
+            ResultLimits.NONE :
+            new ResultLimits(configuration.getMaxResultRows(), configuration.getMaxHydratedEntities());
+        this.transactionRetryLogic = configuration == null || configuration.getMaxTransactionRetryTime() == null ?
+            new TransactionRetryLogic() :
+            new TransactionRetryLogic(configuration.getMaxTransactionRetryTime());
     }
 
     /**
@@ -137,7 +160,29 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy, entityInstantiator);
+        return new Neo4jSession(metaData, driver, sessionSettings());
+    }
+
+    /**
+     * Opens a new {@link SharedReadOnlySession}. In contrast to sessions opened through {@link #openSession()}, it
+     * can be used by several threads at the same time, sharing the entities it has loaded.
+     *
+     * @return A new read only session that is safe to share between threads
+     */
+    public Session openSharedReadOnlySession() {
+        return new SharedReadOnlySession(metaData, driver, sessionSettings());
+    }
+
+    private SessionSettings sessionSettings() {
+        return new SessionSettings.Builder()
+            .eventListeners(eventListeners)
+            .loadStrategy(loadStrategy)
+            .entityInstantiator(entityInstantiator)
+            .metricsListener(MetricsListener.compose(metricsListeners))
+            .queryTracer(QueryTracer.compose(slowQueryLog, queryTracer))
+            .resultLimits(resultLimits.copy())
+            .transactionRetryLogic(transactionRetryLogic)
+            .build();
     }
 
     /**
@@ -161,6 +206,27 @@ public class SessionFactory {
         eventListeners.remove(eventListener);
     }
 
+    /**
+     * Registers the specified listener for the metrics of all <code>Session</code> instances created from
+     * <code>this SessionFactory</code>.
+     * Only Session instances created after this call are affected.
+     *
+     * @param metricsListener The metrics listener to register.
+     */
+    public void register(MetricsListener metricsListener) {
+        metricsListeners.add(requireNonNull(metricsListener));
+    }
+
+    /**
+     * Removes the the specified metrics listener from <code>this SessionFactory</code>.
+     * Only Session instances created after this call are affected.
+     *
+     * @param metricsListener The metrics listener to deregister.
+     */
+    public void deregister(MetricsListener metricsListener) {
+        metricsListeners.remove(metricsListener);
+    }
+
     /**
      * Returns current load strategy
      *
@@ -185,6 +251,16 @@ public class SessionFactory {
         this.entityInstantiator = entityInstantiator;
     }
 
+    /**
+     * Sets the tracer receiving a span for each request sent to the database. Only Session instances created after
+     * this call are affected.
+     *
+     * @param queryTracer The tracer to use, {@link QueryTracer#NOOP} to disable tracing
+     */
+    public void setQueryTracer(QueryTracer queryTracer) {
+        this.queryTracer = requireNonNull(queryTracer);
+    }
+
     /**
      * Closes this session factory
      * Also closes any underlying resources, like driver etc.
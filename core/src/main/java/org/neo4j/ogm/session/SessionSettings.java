@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.ResultLimits;
+import org.neo4j.ogm.session.tracing.QueryTracer;
+import org.neo4j.ogm.session.transaction.TransactionRetryLogic;
+
+/**
+ * The settings a {@link SessionFactory} passes to the sessions it opens. Settings not set on the {@link Builder} are
+ * the defaults of a session created without a factory.
+ */
+public final class SessionSettings {
+
+    private final List<EventListener> eventListeners;
+    private final LoadStrategy loadStrategy;
+    private final EntityInstantiator entityInstantiator;
+    private final MetricsListener metricsListener;
+    private final QueryTracer queryTracer;
+    private final ResultLimits resultLimits;
+    private final TransactionRetryLogic transactionRetryLogic;
+
+    private SessionSettings(Builder builder) {
+        this.eventListeners = Collections.unmodifiableList(new ArrayList<>(builder.eventListeners));
+        this.loadStrategy = builder.loadStrategy;
+        this.entityInstantiator = builder.entityInstantiator;
+        this.metricsListener = builder.metricsListener;
+        this.queryTracer = builder.queryTracer;
+        this.resultLimits = builder.resultLimits;
+        this.transactionRetryLogic = builder.transactionRetryLogic;
+    }
+
+    public List<EventListener> getEventListeners() {
+        return eventListeners;
+    }
+
+    public LoadStrategy getLoadStrategy() {
+        return loadStrategy;
+    }
+
+    /**
+     * @return The entity instantiator or {@literal null} to use a reflection based one
+     */
+    public EntityInstantiator getEntityInstantiator() {
+        return entityInstantiator;
+    }
+
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public QueryTracer getQueryTracer() {
+        return queryTracer;
+    }
+
+    /**
+     * @return The result limits, which keep the counts of a single session
+     */
+    public ResultLimits getResultLimits() {
+        return resultLimits;
+    }
+
+    public TransactionRetryLogic getTransactionRetryLogic() {
+        return transactionRetryLogic;
+    }
+
+    public static class Builder {
+
+        private List<EventListener> eventListeners = Collections.emptyList();
+        private LoadStrategy loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
+        private EntityInstantiator entityInstantiator;
+        private MetricsListener metricsListener = MetricsListener.NOOP;
+        private QueryTracer queryTracer = QueryTracer.NOOP;
+        private ResultLimits resultLimits = ResultLimits.NONE;
+        private TransactionRetryLogic transactionRetryLogic = new TransactionRetryLogic();
+
+        public Builder eventListeners(List<EventListener> eventListeners) {
+            this.eventListeners = eventListeners;
+            return this;
+        }
+
+        public Builder loadStrategy(LoadStrategy loadStrategy) {
+            this.loadStrategy = loadStrategy;
+            return this;
+        }
+
+        public Builder entityInstantiator(EntityInstantiator entityInstantiator) {
+            this.entityInstantiator = entityInstantiator;
+            return this;
+        }
+
+        public Builder metricsListener(MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        public Builder queryTracer(QueryTracer queryTracer) {
+            this.queryTracer = queryTracer;
+            return this;
+        }
+
+        /**
+         * @param resultLimits Limits used by a single session only, as they keep the counts of its current operation
+         * @return This builder
+         */
+        public Builder resultLimits(ResultLimits resultLimits) {
+            this.resultLimits = resultLimits;
+            return this;
+        }
+
+        public Builder transactionRetryLogic(TransactionRetryLogic transactionRetryLogic) {
+            this.transactionRetryLogic = transactionRetryLogic;
+            return this;
+        }
+
+        public SessionSettings build() {
+            return new SessionSettings(this);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.delegates.ExecuteQueriesDelegate;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * A session that only reads and that can be shared by several threads, for example by concurrent request handlers
+ * working on the same reference data. All threads use the same {@link MappingContext#concurrent(MetaData) concurrent
+ * mapping context}, so an entity is hydrated once and then returned to every thread loading it.
+ * <p>
+ * Transactions are bound to the thread opening them and are always read only. Saving or deleting entities, queries
+ * modifying the graph and queries calling procedures are rejected with an {@link UnsupportedOperationException}, as
+ * it cannot be told whether a procedure writes. The entities returned are shared between threads and must not be
+ * changed.
+ * <p>
+ * Metrics, traces and result limits are tracked per operation of each thread.
+ */
+public class SharedReadOnlySession extends Neo4jSession {
+
+    private final ThreadLocal<OperationState> operationStates = ThreadLocal.withInitial(this::newOperationState);
+
+    SharedReadOnlySession(MetaData metaData, Driver driver, SessionSettings settings) {
+        super(metaData, driver, settings, MappingContext.concurrent(metaData));
+    }
+
+    @Override
+    OperationState operationState() {
+        return operationStates.get();
+    }
+
+    @Override
+    public <T> T queryForObject(Class<T> type, String cypher, Map<String, ?> parameters) {
+        assertReadOnly(cypher);
+        return super.queryForObject(type, cypher, parameters);
+    }
+
+    @Override
+    public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
+        assertReadOnly(cypher);
+        return super.query(type, cypher, parameters);
+    }
+
+    @Override
+    public Result query(String cypher, Map<String, ?> parameters) {
+        assertReadOnly(cypher);
+        return super.query(cypher, parameters, true);
+    }
+
+    @Override
+    public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        assertReadOnly(cypher);
+        return super.query(cypher, parameters, true);
+    }
+
+    @Override
+    public void purgeDatabase() {
+        throw readOnly("purge the database");
+    }
+
+    @Override
+    public <T> void delete(T object) {
+        throw readOnly("delete entities");
+    }
+
+    @Override
+    public <T> void deleteAll(Class<T> type) {
+        throw readOnly("delete entities");
+    }
+
+    @Override
+    public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
+        throw readOnly("delete entities");
+    }
+
+    @Override
+    public <T> void save(T object) {
+        throw readOnly("save entities");
+    }
+
+    @Override
+    public <T> void save(T object, int depth) {
+        throw readOnly("save entities");
+    }
+
+    @Override
+    public <T> T writeTransaction(Supplier<T> work) {
+        throw readOnly("run write transactions");
+    }
+
+    @Override
+    public Transaction beginTransaction() {
+        return super.beginTransaction(Transaction.Type.READ_ONLY);
+    }
+
+    /**
+     * Opens a read only transaction, whatever type has been requested.
+     */
+    @Override
+    public Transaction beginTransaction(Transaction.Type type) {
+        return super.beginTransaction(Transaction.Type.READ_ONLY);
+    }
+
+    @Override
+    public Transaction beginTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        return super.beginTransaction(Transaction.Type.READ_ONLY, bookmarks);
+    }
+
+    private void assertReadOnly(String cypher) {
+        if (!ExecuteQueriesDelegate.isReadOnly(cypher)) {
+            throw readOnly("run queries modifying the graph");
+        }
+        if (ExecuteQueriesDelegate.callsProcedure(cypher)) {
+            throw readOnly("run queries calling procedures");
+        }
+    }
+
+    private static UnsupportedOperationException readOnly(String operation) {
+        return new UnsupportedOperationException("A shared read only session cannot " + operation);
+    }
+}
@@ -19,9 +19,11 @@
 package org.neo4j.ogm.session;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * @author Vince Bickers
@@ -55,6 +57,30 @@ public class Utils {
         return count;
     }
 
+    /**
+     * Coercions by target type, applied to non-null values only. Primitive and wrapper types share the same coercion.
+     */
+    private static final Map<Class<?>, Function<Object, Object>> COERCIONS;
+
+    static {
+        Map<Class<?>, Function<Object, Object>> coercions = new HashMap<>();
+        register(coercions, Utils::toInt, int.class, Integer.class);
+        register(coercions, Utils::toFloat, float.class, Float.class);
+        register(coercions, Utils::toByte, byte.class, Byte.class);
+        register(coercions, Utils::toDouble, double.class, Double.class);
+        register(coercions, Utils::toLong, long.class, Long.class);
+        register(coercions, Utils::toShort, short.class, Short.class);
+        register(coercions, Utils::toChar, char.class, Character.class);
+        COERCIONS = Collections.unmodifiableMap(coercions);
+    }
+
+    private static void register(Map<Class<?>, Function<Object, Object>> coercions,
+        Function<Object, Object> coercion, Class<?>... types) {
+        for (Class<?> type : types) {
+            coercions.put(type, coercion);
+        }
+    }
+
     /**
      * Coerce numeric types when mapping properties from nodes to entities.
      * This deals with numeric types - Longs to ints, Doubles to floats, Integers to bytes.
@@ -68,129 +94,164 @@ public class Utils {
             return defaultForPrimitive(clazz, null);
         }
         if (value != null) {
-            String className = clazz.getName();
-            // downcast to int from long
-            if ("int".equals(className) || Integer.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
-                    }
-                    return longValue.intValue();
-                }
+            Function<Object, Object> coercion = COERCIONS.get(clazz);
+            if (coercion != null) {
+                return coercion.apply(value);
             }
-            // downcast to float from double or cross-cast from int or long
-            if ("float".equals(className) || (Float.class.equals(clazz))) {
-                if (value.getClass().equals(Double.class)) {
-                    Double dblValue = (Double) value;
-                    if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
-                        throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
-                    }
-                    return dblValue.floatValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
-                    }
-                    return intValue.floatValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
-                    }
-                    return longValue.floatValue();
-                }
+        }
+        return value;
+    }
+
+    /**
+     * Determines the coercion for a given type once, so that it can be applied to many values without looking up
+     * the type again. The returned function behaves exactly like {@link #coerceTypes(Class, Object)}.
+     *
+     * @param clazz the entity field type, may be null in which case values are not coerced at all
+     * @return a function coercing property values into values of the given type
+     */
+    public static Function<Object, Object> coercionFor(Class<?> clazz) {
+        if (clazz == null) {
+            return Function.identity();
+        }
+
+        Function<Object, Object> coercion = COERCIONS.get(clazz);
+        Object defaultValue = clazz.isPrimitive() ? defaultForPrimitive(clazz, null) : null;
+        if (coercion == null) {
+            return defaultValue == null ? Function.identity() : value -> value == null ? defaultValue : value;
+        }
+        return value -> value == null ? defaultValue : coercion.apply(value);
+    }
+
+    // downcast to int from long
+    private static Object toInt(Object value) {
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
             }
-            // down-cast to byte from integer or long
-            if ("byte".equals(className) || Byte.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return intValue.byteValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return longValue.byteValue();
-                }
+            return longValue.intValue();
+        }
+        return value;
+    }
+
+    // downcast to float from double or cross-cast from int or long
+    private static Object toFloat(Object value) {
+        if (value.getClass().equals(Double.class)) {
+            Double dblValue = (Double) value;
+            if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
+                throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
             }
-            // cross-cast to double from int or long or up-cast from float
-            if ("double".equals(className) || Double.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
-                    }
-                    return intValue.doubleValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long testValue = (Long) value;
-                    if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(
-                            testValue + " cannot be cast to double without an overflow.");
-                    }
-                    return testValue.doubleValue();
-                }
-                if (value.getClass().equals(Float.class)) {
-                    Float floatValue = (Float) value;
-                    return floatValue.doubleValue();
-                }
+            return dblValue.floatValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
             }
-            // up-cast to long from int
-            if ("long".equals(className) || Long.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    return intValue.longValue();
-                }
+            return intValue.floatValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
             }
+            return longValue.floatValue();
+        }
+        return value;
+    }
 
-            // down-cast to short from int or long
-            if ("short".equals(className) || Short.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
-                    }
-                    return longValue.shortValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
-                }
+    // down-cast to byte from integer or long
+    private static Object toByte(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
+            }
+            return intValue.byteValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
             }
+            return longValue.byteValue();
+        }
+        return value;
+    }
 
-            // down-cast to char from String
-            if ("char".equals(className) || Character.class.equals(clazz)) {
-                if (value.getClass().equals(String.class)) {
-                    String stringValue = (String) value;
-                    if (stringValue.length() == 1) {
-                        return stringValue.charAt(0);
-                    } else {
-                        try {
-                            return (char) Integer.parseInt(stringValue);
-                        } catch (NumberFormatException nfe) {
-                            throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
-                        }
-                    }
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
+    // cross-cast to double from int or long or up-cast from float
+    private static Object toDouble(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
+            }
+            return intValue.doubleValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long testValue = (Long) value;
+            if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    testValue + " cannot be cast to double without an overflow.");
+            }
+            return testValue.doubleValue();
+        }
+        if (value.getClass().equals(Float.class)) {
+            Float floatValue = (Float) value;
+            return floatValue.doubleValue();
+        }
+        return value;
+    }
+
+    // up-cast to long from int
+    private static Object toLong(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            return intValue.longValue();
+        }
+        return value;
+    }
+
+    // down-cast to short from int or long
+    private static Object toShort(Object value) {
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
+            }
+            return longValue.shortValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
+        return value;
+    }
+
+    // down-cast to char from String
+    private static Object toChar(Object value) {
+        if (value.getClass().equals(String.class)) {
+            String stringValue = (String) value;
+            if (stringValue.length() == 1) {
+                return stringValue.charAt(0);
+            } else {
+                try {
+                    return (char) Integer.parseInt(stringValue);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
                 }
             }
         }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
         return value;
     }
 
@@ -65,6 +65,7 @@ import org.neo4j.ogm.transaction.Transaction;
 public class ExecuteQueriesDelegate extends SessionDelegate {
 
     private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE|DROP)\\b");
+    private static final Pattern PROCEDURE_CALL = Pattern.compile("\\bCALL\\b");
 
     public ExecuteQueriesDelegate(Neo4jSession session) {
         super(session);
@@ -118,7 +119,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
         RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
         RestModelMapper mapper = new RestModelMapper(session.metaData(), session.context(),
-            session.getEntityInstantiator());
+            session.getEntityInstantiator(), session.metricsListener(), session.resultLimits());
 
         return session.doInTransaction(() -> {
 
@@ -131,7 +132,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
                     return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
                 }
             }
-        }, Transaction.Type.READ_WRITE);
+        }, readOnly ? transactionTypeFor(cypher) : Transaction.Type.READ_WRITE);
     }
 
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters) {
@@ -142,7 +143,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
                 GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                     return new GraphRowModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator())
+                        session.getEntityInstantiator(), session.metricsListener(), session.resultLimits())
                         .map(type, response);
                 }
             } else {
@@ -152,7 +153,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
                     return new EntityRowModelMapper().map(type, response);
                 }
             }
-        }, Transaction.Type.READ_WRITE);
+        }, transactionTypeFor(cypher));
     }
 
     public long countEntitiesOfType(Class<?> entity) {
@@ -236,11 +237,33 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return Long.parseLong(resultMap.get(resultKey).toString());
     }
 
-    private boolean isReadOnly(String cypher) {
+    /**
+     * Classifies a custom query by its statement. Queries calling procedures may write even without any write keyword
+     * and are therefore run in a read write transaction, so that they are routed to the leader of a cluster.
+     */
+    private Transaction.Type transactionTypeFor(String cypher) {
+        return isReadOnly(cypher) && !callsProcedure(cypher) ?
+            Transaction.Type.READ_ONLY :
+            Transaction.Type.READ_WRITE;
+    }
+
+    /**
+     * @param cypher A custom query
+     * @return True if the query doesn't contain any keyword modifying the graph
+     */
+    public static boolean isReadOnly(String cypher) {
         Matcher matcher = WRITE_CYPHER_KEYWORDS.matcher(cypher.toUpperCase());
         return !matcher.find();
     }
 
+    /**
+     * @param cypher A custom query
+     * @return True if the query calls a procedure, which may modify the graph without any write keyword
+     */
+    public static boolean callsProcedure(String cypher) {
+        return PROCEDURE_CALL.matcher(cypher.toUpperCase()).find();
+    }
+
     private void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         if (readOnly && !isReadOnly(cypher)) {
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.schema.Schema;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.session.FetchPlan;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.strategy.impl.IdCollectionMatchClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
+
+/**
+ * Loads deep levels of a {@link LoadStrategy#SPLIT_LOAD_STRATEGY} load. The first query only loads the matched nodes
+ * with their direct relationships. The nodes it reaches form the frontier, which is then loaded with its own direct
+ * relationships in batched follow up queries, level by level, until the requested depth is reached. All levels are
+ * mapped into the mapping context of the session and must be loaded in the same transaction.
+ * <p>
+ * Loads that are not split use the requested depth for the first query and load no further levels.
+ */
+final class LevelLoader {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final Neo4jSession session;
+    private final int depth;
+    private final boolean split;
+
+    private final Set<Long> visited = new HashSet<>();
+    private final Map<Long, Node> reached = new LinkedHashMap<>();
+
+    LevelLoader(Neo4jSession session, Class<?> type, int depth, FetchPlan fetchPlan) {
+        this.session = session;
+        this.depth = depth;
+        this.split = fetchPlan == null && depth > 1
+            && session.getLoadStrategy() == LoadStrategy.SPLIT_LOAD_STRATEGY
+            && !session.metaData().isRelationshipEntity(type.getName());
+    }
+
+    /**
+     * @return The depth of the first query
+     */
+    int queryDepth() {
+        return split ? 1 : depth;
+    }
+
+    /**
+     * Records the nodes of the given response of the first query as they are read.
+     *
+     * @param response The response of the first query
+     * @return The response to map
+     */
+    Response<GraphModel> firstLevel(Response<GraphModel> response) {
+        return split ? new RecordingResponse<>(response, this::recordGraph) : response;
+    }
+
+    /**
+     * Records the nodes of the given row response of the first query as they are read.
+     *
+     * @param response The response of the first query
+     * @return The response to map
+     */
+    Response<GraphRowListModel> firstLevelRows(Response<GraphRowListModel> response) {
+        return split ? new RecordingResponse<>(response, this::recordRows) : response;
+    }
+
+    /**
+     * Loads the levels after the first one, must be called after the response of the first query has been mapped.
+     */
+    void loadRemainingLevels() {
+        if (!split) {
+            return;
+        }
+
+        Schema schema = session.metaData().getSchema();
+        SchemaNodeLoadClauseBuilder loadClauseBuilder = new SchemaNodeLoadClauseBuilder(schema);
+        IdCollectionMatchClauseBuilder matchClauseBuilder = new IdCollectionMatchClauseBuilder();
+        GraphRowModelMapper mapper = new GraphRowModelMapper(session.metaData(), session.context(),
+            session.getEntityInstantiator(), session.metricsListener(), session.resultLimits());
+
+        for (int level = 2; level <= depth; level++) {
+            Map<String, List<Long>> frontier = nextFrontier();
+            if (frontier.isEmpty()) {
+                return;
+            }
+
+            for (Map.Entry<String, List<Long>> entry : frontier.entrySet()) {
+                String label = entry.getKey();
+                String statement = matchClauseBuilder.build(label) + loadClauseBuilder.build("n", label, 1);
+
+                List<Long> ids = entry.getValue();
+                for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                    List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                    DefaultGraphModelRequest request = new DefaultGraphModelRequest(statement,
+                        Utils.map("ids", new ArrayList<>(batch)));
+                    try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                        mapper.map(Object.class, new RecordingResponse<>(response, this::recordGraph));
+                    }
+                }
+            }
+        }
+    }
+
+    private void recordRows(GraphRowListModel model) {
+        for (GraphRowModel row : model.model()) {
+            recordGraph(row.getGraph());
+        }
+    }
+
+    private void recordGraph(GraphModel model) {
+        for (Node node : model.getNodes()) {
+            if (node instanceof NodeModel && ((NodeModel) node).isGeneratedNode()) {
+                reached.putIfAbsent(node.getId(), node);
+            } else {
+                visited.add(node.getId());
+            }
+        }
+    }
+
+    /**
+     * Takes the nodes reached since the last call that have not been expanded yet, grouped by the label of their
+     * entity class. Nodes without a mapped class or without relationships in the schema are skipped.
+     */
+    private Map<String, List<Long>> nextFrontier() {
+
+        Schema schema = session.metaData().getSchema();
+        Map<String, List<Long>> frontier = new LinkedHashMap<>();
+        for (Node node : reached.values()) {
+            if (!visited.add(node.getId())) {
+                continue;
+            }
+            ClassInfo classInfo = session.metaData().resolve(node.getLabels());
+            if (classInfo == null || classInfo.isRelationshipEntity()) {
+                continue;
+            }
+            String label = classInfo.neo4jName();
+            if (schema.findNode(label).relationships().isEmpty()) {
+                continue;
+            }
+            frontier.computeIfAbsent(label, key -> new ArrayList<>()).add(node.getId());
+        }
+        reached.clear();
+        return frontier;
+    }
+
+    private static class RecordingResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+        private final Consumer<T> recorder;
+
+        RecordingResponse(Response<T> delegate, Consumer<T> recorder) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public T next() {
+
+            T next = delegate.next();
+            if (next != null) {
+                recorder.accept(next);
+            }
+            return next;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
+}
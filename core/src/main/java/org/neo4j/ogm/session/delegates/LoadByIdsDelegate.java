@@ -67,14 +67,18 @@ public class LoadByIdsDelegate extends SessionDelegate {
         }
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
-        PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, ids, depth)
+        LevelLoader levelLoader = new LevelLoader(session, type, depth, null);
+        PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, ids, levelLoader.queryDepth())
             .setSortOrder(sortOrder)
             .setPagination(pagination);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
         return session.doInTransaction(() -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator()).map(type, response);
+                Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator(), session.metricsListener(), session.resultLimits())
+                    .map(type, levelLoader.firstLevel(response));
+                levelLoader.loadRemainingLevels();
 
                 if (sortOrder.sortClauses().isEmpty()) {
                     return sortResultsByIds(type, ids, mapped);
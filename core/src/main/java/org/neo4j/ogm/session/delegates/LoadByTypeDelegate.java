@@ -34,6 +34,7 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.FetchPlan;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
@@ -68,6 +69,28 @@ public class LoadByTypeDelegate extends SessionDelegate {
      */
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
+        return loadAll(type, filters, sortOrder, pagination, depth, null);
+    }
+
+    /**
+     * Loads all objects of a given {@code type} together with the relationship paths of the given fetch plan.
+     *
+     * @param type       The type of objects to load.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder  Sort order to be passed on to the database
+     * @param pagination Pagination if required
+     * @param fetchPlan  The relationship paths to load
+     * @param <T>        Returned type
+     * @return A list of objects with the requested type
+     * @see #loadAll(Class, Filters, SortOrder, Pagination, int)
+     */
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return loadAll(type, filters, sortOrder, pagination, fetchPlan.getDepth(), fetchPlan);
+    }
+
+    private <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        int depth, FetchPlan fetchPlan) {
 
         String entityLabel = session.entityType(type.getName());
         if (entityLabel == null) {
@@ -76,38 +99,45 @@ public class LoadByTypeDelegate extends SessionDelegate {
                 + "and not abstract without @NodeEntity annotation");
             return Collections.emptyList();
         }
-        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        QueryStatements queryStatements = fetchPlan == null ?
+            session.queryStatementsFor(type, depth) :
+            session.queryStatementsFor(type, fetchPlan);
 
         SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
 
+        LevelLoader levelLoader = new LevelLoader(session, type, depth, fetchPlan);
         PagingAndSortingQuery query;
         if (filters == null || filters.isEmpty()) {
-            query = queryStatements.findByType(entityLabel, depth);
+            query = queryStatements.findByType(entityLabel, levelLoader.queryDepth());
         } else {
             resolvePropertyAnnotations(type, filters);
-            query = queryStatements.findByType(entityLabel, filters, depth);
+            query = queryStatements.findByType(entityLabel, filters, levelLoader.queryDepth());
         }
 
         query.setSortOrder(sortOrderWithResolvedProperties)
             .setPagination(pagination);
 
         return session.doInTransaction(() -> {
+            Collection<T> result;
             if (query.needsRowResult()) {
                 DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
                     query.getStatement(), query.getParameters());
                 try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-                    return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator())
-                        .map(type, response);
+                    result = (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(),
+                        session.getEntityInstantiator(), session.metricsListener(), session.resultLimits())
+                        .map(type, levelLoader.firstLevelRows(response));
                 }
             } else {
                 GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                    return (Collection<T>) new GraphRowModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator()).map(type, response);
+                    result = (Collection<T>) new GraphRowModelMapper(session.metaData(), session.context(),
+                        session.getEntityInstantiator(), session.metricsListener(), session.resultLimits())
+                        .map(type, levelLoader.firstLevel(response));
                 }
             }
-        }, Transaction.Type.READ_WRITE);
+            levelLoader.loadRemainingLevels();
+            return result;
+        }, Transaction.Type.READ_ONLY);
     }
 
     public <T> Collection<T> loadAll(Class<T> type) {
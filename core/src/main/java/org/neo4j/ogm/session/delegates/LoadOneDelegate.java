@@ -23,12 +23,15 @@ import java.io.Serializable;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphRowModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultNodeByIdRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.FetchPlan;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
@@ -53,6 +56,14 @@ public class LoadOneDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
+        return load(type, id, depth, null);
+    }
+
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return load(type, id, fetchPlan.getDepth(), fetchPlan);
+    }
+
+    private <T, ID extends Serializable> T load(Class<T> type, ID id, int depth, FetchPlan fetchPlan) {
 
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo == null) {
@@ -69,26 +80,46 @@ public class LoadOneDelegate extends SessionDelegate {
                 + "does not have primary id" + type.getName());
         }
 
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+        QueryStatements<ID> queryStatements = fetchPlan == null ?
+            session.queryStatementsFor(type, depth) :
+            session.queryStatementsFor(type, fetchPlan);
         String entityType = session.entityType(type.getName());
         if (entityType == null) {
             logger.warn("Unable to find database label for entity " + type.getName()
                 + " : no results will be returned. Make sure the class is registered, "
                 + "and not abstract without @NodeEntity annotation");
         }
-        PagingAndSortingQuery qry = queryStatements.findOneByType(entityType, id, depth);
+        LevelLoader levelLoader = new LevelLoader(session, type, depth, fetchPlan);
+        PagingAndSortingQuery qry = queryStatements.findOneByType(entityType, id, levelLoader.queryDepth());
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+        GraphModelRequest request = isSingleNodeLoad(type, depth, fetchPlan) ?
+            new DefaultNodeByIdRequest(qry.getStatement(), qry.getParameters(), entityType,
+                primaryIndexField == null ? null : primaryIndexField.property(), id, depth) :
+            new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
 
         return session.doInTransaction(() -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
-                    .map(type, response);
-                return lookup(type, id);
+                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator(),
+                    session.metricsListener(), session.resultLimits())
+                    .map(type, levelLoader.firstLevel(response));
             }
+            levelLoader.loadRemainingLevels();
+            return lookup(type, id);
         }, Transaction.Type.READ_ONLY);
     }
 
+    /**
+     * A load of a node entity returns the node itself or, with the path load strategy and a depth of 1, all its
+     * relationships and neighbours. Drivers may look those up directly instead of running the query. Other loads
+     * filter the relationships by the schema or a fetch plan.
+     */
+    private boolean isSingleNodeLoad(Class<?> type, int depth, FetchPlan fetchPlan) {
+        if (fetchPlan != null || session.metaData().isRelationshipEntity(type.getName())) {
+            return false;
+        }
+        return depth == 0 || (depth == 1 && session.getLoadStrategy() == LoadStrategy.PATH_LOAD_STRATEGY);
+    }
+
     private <T, U> T lookup(Class<T> type, U id) {
         Object ref;
         ClassInfo typeInfo = session.metaData().classInfo(type.getName());
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+import java.util.List;
+
+/**
+ * Notifies several listeners in the order of their registration.
+ */
+final class CompositeMetricsListener implements MetricsListener {
+
+    private final List<MetricsListener> listeners;
+
+    CompositeMetricsListener(List<MetricsListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void operationCompleted(Operation operation, long durationNanos, boolean successful) {
+        listeners.forEach(listener -> listener.operationCompleted(operation, durationNanos, successful));
+    }
+
+    @Override
+    public void statementsExecuted(int statementCount, long durationNanos) {
+        listeners.forEach(listener -> listener.statementsExecuted(statementCount, durationNanos));
+    }
+
+    @Override
+    public void resultFetched(int rowCount, long durationNanos) {
+        listeners.forEach(listener -> listener.resultFetched(rowCount, durationNanos));
+    }
+
+    @Override
+    public void resultMapped(int rowCount, int entityCount, long durationNanos) {
+        listeners.forEach(listener -> listener.resultMapped(rowCount, entityCount, durationNanos));
+    }
+
+    @Override
+    public void mappingContextSize(int nodeEntityCount, int relationshipEntityCount) {
+        listeners.forEach(listener -> listener.mappingContextSize(nodeEntityCount, relationshipEntityCount));
+    }
+
+    @Override
+    public void connectionPoolUsage(int leased, int pending, int available, int max) {
+        listeners.forEach(listener -> listener.connectionPoolUsage(leased, pending, available, max));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Receives metrics about the work done by sessions. Listeners are registered on the
+ * {@link org.neo4j.ogm.session.SessionFactory} and used by all sessions opened afterwards.
+ * <p>
+ * All methods are called synchronously on the thread using the session, so implementations should only record the
+ * values, for example in timers and counters of a metrics library, and return quickly. All durations are in
+ * nanoseconds. If no listener is registered, no measurements are taken at all.
+ */
+public interface MetricsListener {
+
+    /**
+     * A listener ignoring all metrics.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+    };
+
+    /**
+     * Called after a session operation completed, successfully or not. Operations triggered by other operations (for
+     * example {@code loadAll} with a collection of entities) are only reported once.
+     *
+     * @param operation      The operation
+     * @param durationNanos  Duration of the whole operation, including database access and mapping
+     * @param successful     False, if the operation completed with an exception
+     */
+    default void operationCompleted(Operation operation, long durationNanos, boolean successful) {
+    }
+
+    /**
+     * Called after all statements of a save have been executed.
+     *
+     * @param statementCount The number of statements executed for the save
+     * @param durationNanos  Duration of executing the statements in the database
+     */
+    default void statementsExecuted(int statementCount, long durationNanos) {
+    }
+
+    /**
+     * Called after a result used for mapping entities has been read from the database.
+     *
+     * @param rowCount      The number of rows returned
+     * @param durationNanos Duration of reading the result
+     */
+    default void resultFetched(int rowCount, long durationNanos) {
+    }
+
+    /**
+     * Called after entities have been mapped from a result.
+     *
+     * @param rowCount      The number of rows mapped
+     * @param entityCount   The number of node and relationship entities hydrated, not counting entities already
+     *                      present in the mapping context
+     * @param durationNanos Duration of the mapping
+     */
+    default void resultMapped(int rowCount, int entityCount, long durationNanos) {
+    }
+
+    /**
+     * Called after each operation with the current size of the session's mapping context.
+     *
+     * @param nodeEntityCount         The number of node entities in the context
+     * @param relationshipEntityCount The number of relationship entities in the context
+     */
+    default void mappingContextSize(int nodeEntityCount, int relationshipEntityCount) {
+    }
+
+    /**
+     * Called after each operation with the utilisation of the connection pool of the driver, if the driver exposes it.
+     *
+     * @param leased    The number of connections in use
+     * @param pending   The number of requests waiting for a connection
+     * @param available The number of idle connections
+     * @param max       The maximum number of connections
+     * @see org.neo4j.ogm.driver.Driver#getConnectionPoolStatistics()
+     */
+    default void connectionPoolUsage(int leased, int pending, int available, int max) {
+    }
+
+    /**
+     * Combines the given listeners into one.
+     *
+     * @param listeners The listeners to combine, may be empty
+     * @return {@link #NOOP} if there are no listeners, the listener itself if there is only one, or a listener that
+     * notifies all given listeners
+     */
+    static MetricsListener compose(Collection<MetricsListener> listeners) {
+
+        if (listeners.isEmpty()) {
+            return NOOP;
+        }
+        if (listeners.size() == 1) {
+            return listeners.iterator().next();
+        }
+        return new CompositeMetricsListener(new ArrayList<>(listeners));
+    }
+
+    enum Operation {
+        LOAD, LOAD_ALL, SAVE, DELETE, QUERY
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import java.util.List;
+
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.BulkWriteRequest;
+
+public class DefaultBulkWriteRequest implements BulkWriteRequest {
+
+    private final List<Node> nodes;
+    private final List<Edge> relationships;
+
+    public DefaultBulkWriteRequest(List<Node> nodes, List<Edge> relationships) {
+        this.nodes = nodes;
+        this.relationships = relationships;
+    }
+
+    @Override
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public List<Edge> getRelationships() {
+        return relationships;
+    }
+}
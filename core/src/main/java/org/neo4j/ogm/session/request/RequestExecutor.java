@@ -30,10 +30,15 @@ import org.neo4j.ogm.context.TransientRelationship;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.BulkWriteRequestHandler;
+import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.MetricsListener;
 import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.EntityUtils;
@@ -77,14 +82,31 @@ public class RequestExecutor {
                 || compiler.updateRelationshipStatements().stream()
                 .anyMatch(st -> st.optimisticLockingConfig().isPresent());
 
-        session.doInTransaction(() -> {
+        MetricsListener metricsListener = session.metricsListener();
+        long start = metricsListener == MetricsListener.NOOP ? 0L : System.nanoTime();
+        int statementCount = session.doInTransaction(() -> {
+
+            // The driver creates new nodes and relationships itself and resolves the references of new nodes
+            Request requestHandler = session.requestHandler();
+            if (requestHandler instanceof BulkWriteRequestHandler) {
+                int count = executeBulkWrite(context, (BulkWriteRequestHandler) requestHandler,
+                    entityReferenceMappings, relReferenceMappings);
+
+                List<Statement> statements = new ArrayList<>();
+                statements.addAll(compiler.updateNodesStatements());
+                statements.addAll(compiler.updateRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipEntityStatements());
+
+                return count + executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+            }
 
             //If there are statements that depend on new nodes i.e. relationships created between new nodes,
             //we must create the new nodes first, and then use their node IDs when creating relationships between them
             if (compiler.hasStatementsDependentOnNewNodes()) {
                 // execute the statements to create new nodes. The ids will be returned
                 // and will be used in subsequent statements that refer to these new nodes.
-                executeStatements(context, entityReferenceMappings, relReferenceMappings,
+                int count = executeStatements(context, entityReferenceMappings, relReferenceMappings,
                     compiler.createNodesStatements());
 
                 List<Statement> statements = new ArrayList<>();
@@ -94,21 +116,42 @@ public class RequestExecutor {
                 statements.addAll(compiler.deleteRelationshipStatements());
                 statements.addAll(compiler.deleteRelationshipEntityStatements());
 
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                return count + executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
             } else { // only update / delete statements
                 List<Statement> statements = compiler.getAllStatements();
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                return executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
             }
 
         }, forceTx, Transaction.Type.READ_WRITE);
 
+        if (metricsListener != MetricsListener.NOOP) {
+            metricsListener.statementsExecuted(statementCount, System.nanoTime() - start);
+        }
+
         //Update the mapping context now that the request is successful
         updateNodeEntities(context, entityReferenceMappings);
         updateRelationshipEntities(context, relReferenceMappings);
         updateRelationships(context, relReferenceMappings);
     }
 
-    private void executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
+    private int executeBulkWrite(CompileContext context, BulkWriteRequestHandler requestHandler,
+        List<ReferenceMapping> entityReferenceMappings, List<ReferenceMapping> relReferenceMappings) {
+
+        Compiler compiler = context.getCompiler();
+        List<Node> nodes = compiler.newNodes();
+        List<Edge> relationships = compiler.newRelationships();
+        if (nodes.isEmpty() && relationships.isEmpty()) {
+            return 0;
+        }
+
+        DefaultBulkWriteRequest request = new DefaultBulkWriteRequest(nodes, relationships);
+        try (Response<RowModel> response = requestHandler.execute(request)) {
+            registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+        }
+        return 1;
+    }
+
+    private int executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
         List<ReferenceMapping> relReferenceMappings, List<Statement> statements) {
         if (statements.size() > 0) {
 
@@ -132,6 +175,7 @@ public class RequestExecutor {
                 registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
             }
         }
+        return statements.size();
     }
 
     /**
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import java.util.Optional;
+
+import org.neo4j.ogm.exception.core.ResultSizeExceededException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.BulkWriteRequest;
+import org.neo4j.ogm.request.BulkWriteRequestHandler;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Limits the number of rows read and the number of entities hydrated by a single session operation. Rows are counted
+ * while they are read from the responses of {@link #limit(Request) limited requests}, entities while they are created
+ * by the mappers, so that a runaway operation is aborted before its whole result is materialized. The response
+ * exceeding the limit is closed by its owner like after any other failure.
+ * <p>
+ * A row is a row of the response, not an entity: with {@link org.neo4j.ogm.session.LoadStrategy#SCHEMA_LOAD_STRATEGY}
+ * the related entities are returned as nested lists in the row of their root entity and only count towards the
+ * entity limit.
+ * <p>
+ * Instances keep the counts of one session and are not thread safe.
+ */
+public final class ResultLimits {
+
+    /**
+     * Limits that never apply.
+     */
+    public static final ResultLimits NONE = new ResultLimits(null, null);
+
+    private final int maxRows;
+    private final int maxEntities;
+
+    private int rowCount;
+    private int entityCount;
+
+    /**
+     * @param maxRows     Maximum number of rows per operation, {@literal null} or a value less than 1 for no limit
+     * @param maxEntities Maximum number of hydrated entities per operation, {@literal null} or a value less than 1 for
+     *                    no limit
+     */
+    public ResultLimits(Integer maxRows, Integer maxEntities) {
+        this.maxRows = maxRows == null || maxRows < 1 ? Integer.MAX_VALUE : maxRows;
+        this.maxEntities = maxEntities == null || maxEntities < 1 ? Integer.MAX_VALUE : maxEntities;
+    }
+
+    /**
+     * @return A new instance with the same limits and its own counts
+     */
+    public ResultLimits copy() {
+        return isUnlimited() ? NONE : new ResultLimits(maxRows, maxEntities);
+    }
+
+    public boolean isUnlimited() {
+        return maxRows == Integer.MAX_VALUE && maxEntities == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Resets the counts at the start of a new operation.
+     */
+    public void reset() {
+        rowCount = 0;
+        entityCount = 0;
+    }
+
+    public void entityHydrated() {
+
+        if (maxEntities != Integer.MAX_VALUE && ++entityCount > maxEntities) {
+            throw new ResultSizeExceededException(
+                "The operation hydrated more than the allowed maximum of " + maxEntities + " entities");
+        }
+    }
+
+    public Request limit(Request request) {
+
+        if (maxRows == Integer.MAX_VALUE) {
+            return request;
+        }
+        return request instanceof BulkWriteRequestHandler ?
+            new LimitingBulkWriteRequest((BulkWriteRequestHandler) request) :
+            new LimitingRequest(request);
+    }
+
+    private void rowRead() {
+
+        if (++rowCount > maxRows) {
+            throw new ResultSizeExceededException(
+                "The operation read more than the allowed maximum of " + maxRows + " rows");
+        }
+    }
+
+    private class LimitingRequest implements Request {
+
+        private final Request delegate;
+
+        LimitingRequest(Request delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<GraphModel> execute(GraphModelRequest query) {
+            return new LimitingResponse<>(delegate.execute(query));
+        }
+
+        @Override
+        public Response<RowModel> execute(RowModelRequest query) {
+            return new LimitingResponse<>(delegate.execute(query));
+        }
+
+        @Override
+        public Response<RowModel> execute(DefaultRequest query) {
+            // Only used to write, rows are the ids of the entities written
+            return delegate.execute(query);
+        }
+
+        @Override
+        public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+            return new LimitingResponse<>(delegate.execute(query));
+        }
+
+        @Override
+        public Response<RestModel> execute(RestModelRequest query) {
+            return new LimitingResponse<>(delegate.execute(query));
+        }
+    }
+
+    private class LimitingBulkWriteRequest extends LimitingRequest implements BulkWriteRequestHandler {
+
+        private final BulkWriteRequestHandler delegate;
+
+        LimitingBulkWriteRequest(BulkWriteRequestHandler delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<RowModel> execute(BulkWriteRequest request) {
+            // Only used to write, rows are the ids of the entities written
+            return delegate.execute(request);
+        }
+    }
+
+    private class LimitingResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+
+        LimitingResponse(Response<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T next() {
+
+            T next = delegate.next();
+            if (next != null) {
+                rowRead();
+            }
+            return next;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Relationship;
 import org.neo4j.ogm.metadata.schema.Schema;
+import org.neo4j.ogm.session.FetchPlan;
 
 /**
  * Base class for schema based LoadClauseBuilder implementations
@@ -43,30 +44,65 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int depth) {
-        if (depth > 0) {
-            if (node.relationships().size() > 0) {
-                sb.append(",[ ");
+        expand(sb, variable, node, new DepthExpansion(depth));
+    }
 
-            }
-            expand(sb, variable, node, 1, depth - 1);
-            if (node.relationships().size() > 0) {
-                sb.append(" ]");
-            }
-        }
+    /**
+     * Expands only the relationship paths of the given fetch plan, starting at the given node.
+     *
+     * @param sb        The builder to append the pattern comprehensions to
+     * @param variable  The variable of the node
+     * @param node      The node to expand
+     * @param fetchPlan The fetch plan to follow
+     */
+    protected void expand(StringBuilder sb, String variable, Node node, FetchPlan fetchPlan) {
+        validate(node, fetchPlan);
+        expand(sb, variable, node, new FetchPlanExpansion(fetchPlan, ""));
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int level, int depth) {
+        // The relationships of the node itself are always expanded, depth applies to the nodes at the other end
+        expand(sb, variable, node, level, new DepthExpansion(depth + 1));
+    }
+
+    private void expand(StringBuilder sb, String variable, Node node, Expansion expansion) {
+        if (expansion.includesAny(node)) {
+            sb.append(",[ ");
+            expand(sb, variable, node, 1, expansion);
+            sb.append(" ]");
+        }
+    }
+
+    private void expand(StringBuilder sb, String variable, Node node, int level, Expansion expansion) {
         for (Map.Entry<String, Relationship> entry : node.relationships().entrySet()) {
+            if (!expansion.includes(entry.getKey())) {
+                continue;
+            }
             if (needsSeparator(sb)) {
                 sb.append(", ");
             }
 
-            listComprehension(sb, variable, entry.getValue(), node, level, depth);
+            listComprehension(sb, variable, entry.getValue(), node, level, expansion.into(entry.getKey()),
+                expansion.loadLimit(entry.getKey(), entry.getValue()));
 
         }
 
     }
 
+    private static void validate(Node node, FetchPlan fetchPlan) {
+        for (String path : fetchPlan.getPaths()) {
+            Node current = node;
+            for (String name : path.split("\\.")) {
+                Relationship relationship = current.relationships().get(name);
+                if (relationship == null) {
+                    throw new IllegalArgumentException("Unknown relationship '" + name + "' in path '" + path
+                        + "' of " + fetchPlan + " for label " + node.label().orElse("<none>"));
+                }
+                current = relationship.other(current);
+            }
+        }
+    }
+
     private boolean needsSeparator(StringBuilder sb) {
         for (int i = sb.length() - 1; i >= 0; i--) {
             char ch = sb.charAt(i);
@@ -78,7 +114,7 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     private void listComprehension(StringBuilder sb, String fromNodeVar, Relationship relationship, Node node,
-        int level, int depth) {
+        int level, Expansion expansion, int loadLimit) {
 
         String direction = relationship.direction(node);
         Node toNode = relationship.other(node);
@@ -115,13 +151,19 @@ public abstract class AbstractSchemaLoadClauseBuilder {
         sb.append(", ");
         sb.append(toNodeVar);
 
-        if (depth > 0 && !toNode.relationships().isEmpty()) {
+        if (expansion.includesAny(toNode)) {
             sb.append(", [ ");
-            expand(sb, toNodeVar, toNode, level + 1, depth - 1);
+            expand(sb, toNodeVar, toNode, level + 1, expansion);
             sb.append(" ]");
         }
 
         sb.append(" ] ]");
+
+        if (loadLimit >= 0) {
+            sb.append("[0..");
+            sb.append(loadLimit);
+            sb.append("]");
+        }
     }
 
     private String relVariableName(Relationship relationship, int level) {
@@ -148,4 +190,75 @@ public abstract class AbstractSchemaLoadClauseBuilder {
             sb.append("\n");
         }
     }
+
+    /**
+     * Decides which relationships of a node are expanded.
+     */
+    private interface Expansion {
+
+        boolean includes(String relationshipName);
+
+        /**
+         * @param relationshipName The name of an included relationship
+         * @return The expansion of the node at the other end of the relationship
+         */
+        Expansion into(String relationshipName);
+
+        default int loadLimit(String relationshipName, Relationship relationship) {
+            return relationship.loadLimit();
+        }
+
+        default boolean includesAny(Node node) {
+            return node.relationships().keySet().stream().anyMatch(this::includes);
+        }
+    }
+
+    private static class DepthExpansion implements Expansion {
+
+        private final int depth;
+
+        DepthExpansion(int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean includes(String relationshipName) {
+            return depth > 0;
+        }
+
+        @Override
+        public Expansion into(String relationshipName) {
+            return new DepthExpansion(depth - 1);
+        }
+    }
+
+    private static class FetchPlanExpansion implements Expansion {
+
+        private final FetchPlan fetchPlan;
+        private final String path;
+
+        FetchPlanExpansion(FetchPlan fetchPlan, String path) {
+            this.fetchPlan = fetchPlan;
+            this.path = path;
+        }
+
+        @Override
+        public boolean includes(String relationshipName) {
+            return fetchPlan.includes(pathTo(relationshipName));
+        }
+
+        @Override
+        public Expansion into(String relationshipName) {
+            return new FetchPlanExpansion(fetchPlan, pathTo(relationshipName));
+        }
+
+        @Override
+        public int loadLimit(String relationshipName, Relationship relationship) {
+            return fetchPlan.getLoadLimit(pathTo(relationshipName), relationship.loadLimit());
+        }
+
+        private String pathTo(String relationshipName) {
+            return path.isEmpty() ? relationshipName : path + "." + relationshipName;
+        }
+    }
 }
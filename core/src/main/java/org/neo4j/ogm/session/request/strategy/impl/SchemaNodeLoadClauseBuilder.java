@@ -20,6 +20,7 @@ package org.neo4j.ogm.session.request.strategy.impl;
 
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Schema;
+import org.neo4j.ogm.session.FetchPlan;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 
 /**
@@ -29,12 +30,26 @@ import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
  */
 public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder implements LoadClauseBuilder {
 
+    private final FetchPlan fetchPlan;
+
     public SchemaNodeLoadClauseBuilder(Schema schema) {
+        this(schema, null);
+    }
+
+    /**
+     * Creates a builder expanding only the relationship paths of the given fetch plan. The depth passed to
+     * {@link #build(String, String, int)} is ignored if a fetch plan is present.
+     *
+     * @param schema    The schema
+     * @param fetchPlan The fetch plan, may be null
+     */
+    public SchemaNodeLoadClauseBuilder(Schema schema, FetchPlan fetchPlan) {
         super(schema);
+        this.fetchPlan = fetchPlan;
     }
 
     public String build(String variable, String label, int depth) {
-        if (depth < 0) {
+        if (fetchPlan == null && depth < 0) {
             throw new IllegalArgumentException("Only queries with depth >= 0 can be built, depth=" + depth);
         }
 
@@ -48,7 +63,11 @@ public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder
         newLine(sb);
 
         Node node = schema.findNode(label);
-        expand(sb, variable, node, depth);
+        if (fetchPlan == null) {
+            expand(sb, variable, node, depth);
+        } else {
+            expand(sb, variable, node, fetchPlan);
+        }
 
         return sb.toString();
     }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+/**
+ * Notifies two spans of all phases.
+ */
+final class CompositeQuerySpan implements QuerySpan {
+
+    private final QuerySpan first;
+    private final QuerySpan second;
+
+    CompositeQuerySpan(QuerySpan first, QuerySpan second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void executed(long durationNanos) {
+        first.executed(durationNanos);
+        second.executed(durationNanos);
+    }
+
+    @Override
+    public void fetched(int rowCount, long durationNanos) {
+        first.fetched(rowCount, durationNanos);
+        second.fetched(rowCount, durationNanos);
+    }
+
+    @Override
+    public void mapped(int entityCount, long durationNanos) {
+        first.mapped(entityCount, durationNanos);
+        second.mapped(entityCount, durationNanos);
+    }
+
+    @Override
+    public void failed(Throwable cause) {
+        first.failed(cause);
+        second.failed(cause);
+    }
+
+    @Override
+    public void end() {
+        first.end();
+        second.end();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+/**
+ * The phases of a single request. The phases are reported in order: the execution by the driver, reading the result
+ * and, if the result is used to hydrate entities, the mapping. A span is ended after its result has been mapped,
+ * when the next request of the same session starts or when the session operation that issued the request completes,
+ * whatever happens first. All durations are in nanoseconds.
+ */
+public interface QuerySpan {
+
+    /**
+     * A span ignoring all phases.
+     */
+    QuerySpan NOOP = new QuerySpan() {
+    };
+
+    /**
+     * @param durationNanos Time spent in the driver until the response was available
+     */
+    default void executed(long durationNanos) {
+    }
+
+    /**
+     * @param rowCount      The number of rows read from the response
+     * @param durationNanos Time spent reading the rows
+     */
+    default void fetched(int rowCount, long durationNanos) {
+    }
+
+    /**
+     * @param entityCount   The number of entities hydrated from the result
+     * @param durationNanos Time spent mapping the result
+     */
+    default void mapped(int entityCount, long durationNanos) {
+    }
+
+    /**
+     * @param cause The exception thrown while executing the request or reading its result
+     */
+    default void failed(Throwable cause) {
+    }
+
+    default void end() {
+    }
+}
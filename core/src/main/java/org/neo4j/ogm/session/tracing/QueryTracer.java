@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import java.util.List;
+
+import org.neo4j.ogm.request.Statement;
+
+/**
+ * Creates a {@link QuerySpan} for each request a session sends to the database. A tracer is set on the
+ * {@link org.neo4j.ogm.session.SessionFactory} and can be used to attach a tracing library without OGM depending on
+ * it.
+ */
+@FunctionalInterface
+public interface QueryTracer {
+
+    /**
+     * A tracer not tracing anything.
+     */
+    QueryTracer NOOP = statements -> QuerySpan.NOOP;
+
+    /**
+     * Called before a request is passed to the driver.
+     *
+     * @param statements The statements of the request, each with its own parameters. A request that writes without
+     *                   Cypher is described by a single statement without parameters. Neither the list nor the
+     *                   parameters must be modified.
+     * @return The span receiving the phases of the request
+     */
+    QuerySpan startSpan(List<Statement> statements);
+
+    /**
+     * Combines two tracers into one.
+     *
+     * @param first  The first tracer
+     * @param second The second tracer
+     * @return A tracer creating spans that notify the spans of both tracers
+     */
+    static QueryTracer compose(QueryTracer first, QueryTracer second) {
+
+        if (first == NOOP) {
+            return second;
+        }
+        if (second == NOOP) {
+            return first;
+        }
+        return statements -> new CompositeQuerySpan(first.startSpan(statements), second.startSpan(statements));
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.BulkWriteRequest;
+import org.neo4j.ogm.request.BulkWriteRequestHandler;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.metrics.MetricsListener;
+import org.neo4j.ogm.session.request.RowDataStatement;
+
+/**
+ * Keeps track of the spans of one session. Requests are decorated with {@link #trace(Request)}, the mapping phase is
+ * received as {@link MetricsListener#resultMapped(int, int, long)} from the mappers. Like the session itself, this
+ * class is not thread safe.
+ */
+public final class QueryTracing implements MetricsListener {
+
+    private final QueryTracer tracer;
+
+    /**
+     * The span of the last request, as long as it has not been ended.
+     */
+    private QuerySpan currentSpan;
+
+    public QueryTracing(QueryTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    public Request trace(Request request) {
+        return request instanceof BulkWriteRequestHandler ?
+            new TracingBulkWriteRequest((BulkWriteRequestHandler) request) :
+            new TracingRequest(request);
+    }
+
+    @Override
+    public void resultMapped(int rowCount, int entityCount, long durationNanos) {
+
+        if (currentSpan != null) {
+            currentSpan.mapped(entityCount, durationNanos);
+            endCurrentSpan();
+        }
+    }
+
+    public void endCurrentSpan() {
+
+        if (currentSpan != null) {
+            QuerySpan span = currentSpan;
+            currentSpan = null;
+            span.end();
+        }
+    }
+
+    private <T> Response<T> traced(Statement statement, Supplier<Response<T>> execution) {
+        return traced(Collections.singletonList(statement), execution);
+    }
+
+    private <T> Response<T> traced(List<Statement> statements, Supplier<Response<T>> execution) {
+
+        endCurrentSpan();
+
+        QuerySpan span = tracer.startSpan(statements);
+        long start = System.nanoTime();
+        Response<T> response;
+        try {
+            response = execution.get();
+        } catch (RuntimeException e) {
+            span.failed(e);
+            span.end();
+            throw e;
+        }
+        span.executed(System.nanoTime() - start);
+
+        currentSpan = span;
+        return new TracingResponse<>(response, span);
+    }
+
+    private class TracingRequest implements Request {
+
+        private final Request delegate;
+
+        TracingRequest(Request delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<GraphModel> execute(GraphModelRequest query) {
+            return traced(query, () -> delegate.execute(query));
+        }
+
+        @Override
+        public Response<RowModel> execute(RowModelRequest query) {
+            return traced(query, () -> delegate.execute(query));
+        }
+
+        @Override
+        public Response<RowModel> execute(DefaultRequest query) {
+
+            return traced(query.getStatements(), () -> delegate.execute(query));
+        }
+
+        @Override
+        public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+            return traced(query, () -> delegate.execute(query));
+        }
+
+        @Override
+        public Response<RestModel> execute(RestModelRequest query) {
+            return traced(query, () -> delegate.execute(query));
+        }
+    }
+
+    private class TracingBulkWriteRequest extends TracingRequest implements BulkWriteRequestHandler {
+
+        private final BulkWriteRequestHandler delegate;
+
+        TracingBulkWriteRequest(BulkWriteRequestHandler delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<RowModel> execute(BulkWriteRequest request) {
+            // There is no Cypher, the span is described by what is written
+            String description = "// Bulk write of " + request.getNodes().size() + " nodes and "
+                + request.getRelationships().size() + " relationships";
+            return traced(new RowDataStatement(description, Collections.emptyMap()), () -> delegate.execute(request));
+        }
+    }
+
+    private static class TracingResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+        private final QuerySpan span;
+
+        private int rowCount;
+        private long fetchNanos;
+        private boolean closed;
+
+        TracingResponse(Response<T> delegate, QuerySpan span) {
+            this.delegate = delegate;
+            this.span = span;
+        }
+
+        @Override
+        public T next() {
+
+            long start = System.nanoTime();
+            try {
+                T next = delegate.next();
+                if (next != null) {
+                    ++rowCount;
+                }
+                return next;
+            } catch (RuntimeException e) {
+                span.failed(e);
+                throw e;
+            } finally {
+                fetchNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void close() {
+
+            delegate.close();
+            if (!closed) {
+                closed = true;
+                span.fetched(rowCount, fetchNanos);
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
+}
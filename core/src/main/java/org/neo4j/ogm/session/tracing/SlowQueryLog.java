@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.request.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link QueryTracer} logging all queries whose execution and retrieval of results took longer than a given
+ * threshold. The query is logged with the shapes of its parameters (their types and sizes, but not their values) and
+ * the time spent in each phase, so that it can be run with {@code EXPLAIN} or {@code PROFILE} by hand.
+ */
+public final class SlowQueryLog implements QueryTracer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final long thresholdNanos;
+
+    public SlowQueryLog(long threshold, TimeUnit unit) {
+        this.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    @Override
+    public QuerySpan startSpan(List<Statement> statements) {
+        return LOGGER.isWarnEnabled() ? new SlowQuerySpan(statements) : QuerySpan.NOOP;
+    }
+
+    static String describeStatements(List<Statement> statements) {
+
+        StringJoiner description = new StringJoiner(";\n");
+        for (Statement statement : statements) {
+            description.add(statement.getStatement() + " " + describeParameters(statement.getParameters()));
+        }
+        return description.toString();
+    }
+
+    static String describeParameters(Map<String, ?> parameters) {
+
+        StringJoiner shapes = new StringJoiner(", ", "{", "}");
+        parameters.forEach((name, value) -> shapes.add(name + ": " + describeParameter(value)));
+        return shapes.toString();
+    }
+
+    private static String describeParameter(Object value) {
+
+        if (value == null) {
+            return "null";
+        } else if (value instanceof Collection) {
+            return value.getClass().getSimpleName() + "[" + ((Collection<?>) value).size() + "]";
+        } else if (value instanceof Map) {
+            return value.getClass().getSimpleName() + "[" + ((Map<?, ?>) value).size() + "]";
+        } else if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private class SlowQuerySpan implements QuerySpan {
+
+        private final List<Statement> statements;
+
+        private long executionNanos;
+        private long fetchNanos;
+        private long mappingNanos;
+        private int rowCount;
+
+        SlowQuerySpan(List<Statement> statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        public void executed(long durationNanos) {
+            executionNanos = durationNanos;
+        }
+
+        @Override
+        public void fetched(int rows, long durationNanos) {
+            rowCount = rows;
+            fetchNanos = durationNanos;
+        }
+
+        @Override
+        public void mapped(int entityCount, long durationNanos) {
+            mappingNanos = durationNanos;
+        }
+
+        @Override
+        public void end() {
+
+            if (executionNanos + fetchNanos < thresholdNanos) {
+                return;
+            }
+            LOGGER.warn("Slow query took {} ms (execution {} ms, fetching {} rows {} ms, mapping {} ms): {}",
+                TimeUnit.NANOSECONDS.toMillis(executionNanos + fetchNanos),
+                TimeUnit.NANOSECONDS.toMillis(executionNanos), rowCount, TimeUnit.NANOSECONDS.toMillis(fetchNanos),
+                TimeUnit.NANOSECONDS.toMillis(mappingNanos), describeStatements(statements));
+        }
+    }
+}
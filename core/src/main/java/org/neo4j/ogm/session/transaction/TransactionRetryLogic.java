@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.TransientConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retries units of work failing with a transient error, like a deadlock or a cluster leader switch, with an exponential
+ * backoff and jitter until a maximum retry time has elapsed.
+ * <p>
+ * Instances are immutable and can be shared between sessions.
+ */
+public final class TransactionRetryLogic {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionRetryLogic.class);
+
+    public static final long DEFAULT_MAX_RETRY_TIME_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final long INITIAL_RETRY_DELAY_MS = 100;
+    private static final double RETRY_DELAY_MULTIPLIER = 2.0;
+    private static final double RETRY_DELAY_JITTER = 0.2;
+
+    private static final String TRANSIENT_ERROR_PREFIX = "Neo.TransientError.";
+    // Those are reported as transient, but are caused by a client terminating the transaction on purpose
+    private static final String TRANSACTION_TERMINATED = "Neo.TransientError.Transaction.Terminated";
+    private static final String LOCK_CLIENT_STOPPED = "Neo.TransientError.Transaction.LockClientStopped";
+
+    private final long maxRetryTimeMs;
+    private final long initialRetryDelayMs;
+
+    public TransactionRetryLogic() {
+        this(DEFAULT_MAX_RETRY_TIME_MS);
+    }
+
+    /**
+     * @param maxRetryTimeMs Time in milliseconds after which a failing unit of work is not retried anymore, 0 to not
+     *                       retry at all
+     */
+    public TransactionRetryLogic(long maxRetryTimeMs) {
+        this(maxRetryTimeMs, INITIAL_RETRY_DELAY_MS);
+    }
+
+    TransactionRetryLogic(long maxRetryTimeMs, long initialRetryDelayMs) {
+        if (maxRetryTimeMs < 0) {
+            throw new IllegalArgumentException("Max retry time must not be negative, was " + maxRetryTimeMs);
+        }
+        this.maxRetryTimeMs = maxRetryTimeMs;
+        this.initialRetryDelayMs = initialRetryDelayMs;
+    }
+
+    /**
+     * Runs the given work and runs it again while it fails with a transient error and the maximum retry time has not
+     * elapsed. The given callback is invoked after each failed attempt before the next one.
+     *
+     * @param work    The work to run, must start and end its own transaction
+     * @param onRetry Invoked after a failed attempt that is going to be retried
+     * @param <T>     The type of the result
+     * @return The result of the first successful attempt
+     */
+    public <T> T retry(Supplier<T> work, Runnable onRetry) {
+
+        long startTime = System.currentTimeMillis();
+        long nextDelayMs = initialRetryDelayMs;
+        int attempt = 1;
+        while (true) {
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                long elapsedTime = System.currentTimeMillis() - startTime;
+                if (!isTransient(e) || elapsedTime >= maxRetryTimeMs) {
+                    throw e;
+                }
+
+                long delayWithJitterMs = computeDelayWithJitter(nextDelayMs);
+                LOGGER.warn("Transaction failed in attempt {} and will be retried in {} ms: {}", attempt,
+                    delayWithJitterMs, e.getMessage());
+                onRetry.run();
+                sleep(delayWithJitterMs, e);
+
+                nextDelayMs = (long) (nextDelayMs * RETRY_DELAY_MULTIPLIER);
+                ++attempt;
+            }
+        }
+    }
+
+    /**
+     * @param e An exception thrown by a unit of work
+     * @return True if the exception or one of its causes is a transient error that may go away when retrying
+     */
+    public static boolean isTransient(Throwable e) {
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionException) {
+                // Connection failures like an authentication error or an open circuit breaker are permanent
+                return cause instanceof TransientConnectionException;
+            }
+            if (cause instanceof CypherException) {
+                String code = ((CypherException) cause).getCode();
+                return code != null && code.startsWith(TRANSIENT_ERROR_PREFIX)
+                    && !code.equals(TRANSACTION_TERMINATED) && !code.equals(LOCK_CLIENT_STOPPED);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static long computeDelayWithJitter(long delayMs) {
+        long jitter = (long) (delayMs * RETRY_DELAY_JITTER);
+        return ThreadLocalRandom.current().nextLong(delayMs - jitter, delayMs + jitter + 1);
+    }
+
+    private static void sleep(long delayMs, RuntimeException failure) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldBeEmptyWithoutIndexFiles() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndexes());
+
+        assertThat(domainIndex.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldMergeAllIndexFiles() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndexes(
+            new String[] { "# comment", "package org.example.domain", "org.example.domain.Person", "",
+                "org.example.domain.Person$Address" },
+            new String[] { "package org.example.other", "org.example.other.Movie" }));
+
+        assertThat(domainIndex.getClassNames(""))
+            .containsExactly("org.example.domain.Person", "org.example.domain.Person$Address",
+                "org.example.other.Movie");
+    }
+
+    @Test
+    public void shouldFilterByPackageOrClassName() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndex(
+            "package org.example.domain", "package org.example.domain.sub", "package org.example.domainx",
+            "org.example.domain.Person", "org.example.domain.Person$Address", "org.example.domain.sub.Pet",
+            "org.example.domainx.Thing"));
+
+        assertThat(domainIndex.getClassNames("org.example.domain"))
+            .containsExactly("org.example.domain.Person", "org.example.domain.Person$Address",
+                "org.example.domain.sub.Pet");
+        assertThat(domainIndex.getClassNames("org.example.domain.Person"))
+            .containsExactly("org.example.domain.Person", "org.example.domain.Person$Address");
+        assertThat(domainIndex.covers("org.example.domain.sub")).isTrue();
+        assertThat(domainIndex.covers("org.example.domain.Person")).isTrue();
+        assertThat(domainIndex.covers("org.example.unknown")).isFalse();
+    }
+
+    @Test
+    public void shouldOnlyCoverListedPackages() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndexes(
+            new String[] { "package org.example.domain", "org.example.domain.Person" },
+            new String[] { "org.example.shared.Movie" }));
+
+        assertThat(domainIndex.covers("org.example.domain")).isTrue();
+        assertThat(domainIndex.covers("org.example.shared")).isFalse();
+        assertThat(domainIndex.covers("org.example.shared.Movie")).isFalse();
+        assertThat(domainIndex.covers("org.example")).isFalse();
+    }
+
+    @Test
+    public void shouldNotCoverPackagesWithUnlistedSubPackages() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndexes(
+            new String[] { "package org.example.domain", "org.example.domain.Person" },
+            new String[] { "org.example.domain.sub.Pet" }));
+
+        assertThat(domainIndex.covers("org.example.domain")).isFalse();
+        assertThat(domainIndex.covers("org.example.domain.sub")).isFalse();
+        assertThat(domainIndex.covers("org.example.domain.Person")).isTrue();
+        assertThat(domainIndex.getClassNames("org.example.domain")).containsExactly("org.example.domain.Person");
+    }
+
+    @Test
+    public void shouldIgnoreIndexesWithoutPackages() throws IOException {
+        DomainIndex domainIndex = DomainIndex.load(classLoaderWithIndex("org.example.domain.Person"));
+
+        assertThat(domainIndex.isEmpty()).isTrue();
+        assertThat(domainIndex.covers("org.example.domain")).isFalse();
+    }
+
+    @Test
+    public void shouldBeIgnoredIfRequested() throws IOException {
+        System.setProperty(DomainIndex.IGNORE_INDEX_PROPERTY, "true");
+        try {
+            DomainIndex domainIndex = DomainIndex.load(
+                classLoaderWithIndex("package org.example.domain", "org.example.domain.Person"));
+
+            assertThat(domainIndex.isEmpty()).isTrue();
+        } finally {
+            System.clearProperty(DomainIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    private ClassLoader classLoaderWithIndex(String... lines) throws IOException {
+        return classLoaderWithIndexes(lines);
+    }
+
+    private ClassLoader classLoaderWithIndexes(String[]... indexFiles) throws IOException {
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        for (String[] lines : indexFiles) {
+            classLoader = new URLClassLoader(new URL[] { writeIndex(lines) }, classLoader);
+        }
+        return classLoader;
+    }
+
+    private URL writeIndex(String... lines) throws IOException {
+        File root = temporaryFolder.newFolder();
+        Path indexFile = root.toPath().resolve(DomainIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return root.toURI().toURL();
+    }
+}
@@ -175,6 +175,14 @@ public class DomainInfoSchemaBuilderTest {
         assertThat(nodes.other(node)).isEqualTo(node);
     }
 
+    @Test
+    public void givenRelationshipWithLoadLimit_thenRelationshipHasLoadLimit() throws Exception {
+        Node celebrity = schema.findNode("Celebrity");
+
+        assertThat(celebrity.relationships().get("followers").loadLimit()).isEqualTo(50);
+        assertThat(schema.findNode("Person").relationships().get("location").loadLimit()).isNegative();
+    }
+
     @Test
     public void givenRelationshipEntity_whenFindRelationship_thenRelationshipIsFound() {
         Relationship relationship = schema.findRelationship("FOUNDED");
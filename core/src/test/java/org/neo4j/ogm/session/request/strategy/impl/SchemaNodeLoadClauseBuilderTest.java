@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.neo4j.ogm.metadata.DomainInfo;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
+import org.neo4j.ogm.session.FetchPlan;
 
 /**
  * @author Frantisek Hartman
@@ -79,10 +80,68 @@ public class SchemaNodeLoadClauseBuilderTest {
         assertThat(query).isEqualTo(" RETURN n,[ [ (n)-[r_s1:`SIMILAR_TO`]->(r1:`Restaurant`) | [ r_s1, r1 ] ] ]");
     }
 
+    @Test
+    public void buildQueryFromPersonWithFetchPlan() throws Exception {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(
+            FetchPlan.named("residents", "location.residents"));
+
+        String query = queryBuilder.build("n", "Person", 1);
+        assertThat(query).isEqualTo(" RETURN n,[ " +
+            "[ (n)-[r_l1:`LIVES_AT`]->(l1:`Location`) | [ r_l1, l1, " +
+            "[ [ (l1)<-[r_l2:`LIVES_AT`]-(p2:`Person`) | [ r_l2, p2 ] ] ] " +
+            "] ] " +
+            "]");
+    }
+
+    @Test
+    public void givenRelationshipWithLoadLimit_thenSliceComprehension() throws Exception {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder();
+
+        String query = queryBuilder.build("n", "Celebrity", 1);
+
+        assertThat(query)
+            .isEqualTo(" RETURN n,[ [ (n)<-[r_f1:`FOLLOWS`]-(c1:`Celebrity`) | [ r_f1, c1 ] ][0..50] ]");
+    }
+
+    @Test
+    public void buildQueryWithLoadLimitInFetchPlan() throws Exception {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(
+            FetchPlan.named("residents", "location.residents").withLoadLimit("location.residents", 10));
+
+        String query = queryBuilder.build("n", "Person", 1);
+        assertThat(query).isEqualTo(" RETURN n,[ " +
+            "[ (n)-[r_l1:`LIVES_AT`]->(l1:`Location`) | [ r_l1, l1, " +
+            "[ [ (l1)<-[r_l2:`LIVES_AT`]-(p2:`Person`) | [ r_l2, p2 ] ][0..10] ] " +
+            "] ] " +
+            "]");
+    }
+
+    @Test
+    public void buildQueryWithEmptyFetchPlan() throws Exception {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(FetchPlan.named("none"));
+
+        String query = queryBuilder.build("n", "Person", 1);
+
+        assertThat(query).isEqualTo(" RETURN n");
+    }
+
+    @Test
+    public void givenUnknownPathInFetchPlan_thenFail() throws Exception {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(FetchPlan.named("unknown", "location.owner"));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> queryBuilder.build("n", "Person", 1))
+            .withMessageContaining("'owner'");
+    }
+
     private SchemaNodeLoadClauseBuilder createQueryBuilder() {
+        return createQueryBuilder(null);
+    }
+
+    private SchemaNodeLoadClauseBuilder createQueryBuilder(FetchPlan fetchPlan) {
         DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.metadata.schema.simple");
         Schema schema = new DomainInfoSchemaBuilder(domainInfo).build();
-        return new SchemaNodeLoadClauseBuilder(schema);
+        return new SchemaNodeLoadClauseBuilder(schema, fetchPlan);
     }
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.request.RowDataStatement;
+
+public class SlowQueryLogTest {
+
+    @Test
+    public void shouldDescribeShapesOfParametersWithoutValues() {
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("name", "secret");
+        parameters.put("ids", Arrays.asList(1L, 2L, 3L));
+        parameters.put("props", Collections.singletonMap("a", 1));
+        parameters.put("scores", new double[] { 1.0, 2.0 });
+        parameters.put("missing", null);
+
+        assertThat(SlowQueryLog.describeParameters(parameters))
+            .isEqualTo("{name: String, ids: ArrayList[3], props: SingletonMap[1], scores: double[2], missing: null}");
+    }
+
+    @Test
+    public void shouldDescribeParametersOfEachStatement() {
+
+        Map<String, Object> nodes = new LinkedHashMap<>();
+        nodes.put("type", "Person");
+        nodes.put("rows", Arrays.asList(1L, 2L));
+        Map<String, Object> relationships = new LinkedHashMap<>();
+        relationships.put("type", "KNOWS");
+        relationships.put("rows", Collections.singletonList(3L));
+
+        assertThat(SlowQueryLog.describeStatements(Arrays.asList(
+            new RowDataStatement("UNWIND $rows AS row CREATE (n)", nodes),
+            new RowDataStatement("UNWIND $rows AS row CREATE ()-[:KNOWS]->()", relationships))))
+            .isEqualTo("UNWIND $rows AS row CREATE (n) {type: String, rows: ArrayList[2]};\n"
+                + "UNWIND $rows AS row CREATE ()-[:KNOWS]->() {type: String, rows: SingletonList[1]}");
+    }
+}
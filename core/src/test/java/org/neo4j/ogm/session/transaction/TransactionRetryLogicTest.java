@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.TransactionException;
+import org.neo4j.ogm.exception.TransientConnectionException;
+
+public class TransactionRetryLogicTest {
+
+    private static final String DEADLOCK = "Neo.TransientError.Transaction.DeadlockDetected";
+
+    private final TransactionRetryLogic retryLogic = new TransactionRetryLogic(10_000, 1);
+
+    @Test
+    public void shouldRetryTransientErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+
+        String result = retryLogic.retry(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CypherException(DEADLOCK, "Deadlock");
+            }
+            return "done";
+        }, retries::incrementAndGet);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(retries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotRetryOtherErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatExceptionOfType(CypherException.class).isThrownBy(() -> retryLogic.retry(() -> {
+            attempts.incrementAndGet();
+            throw new CypherException("Neo.ClientError.Statement.SyntaxError", "Invalid input");
+        }, () -> {
+        }));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRetryPermanentConnectionErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatExceptionOfType(ConnectionException.class).isThrownBy(() -> retryLogic.retry(() -> {
+            attempts.incrementAndGet();
+            throw new ConnectionException("Security Error: Neo.ClientError.Security.Unauthorized, Invalid credentials",
+                null);
+        }, () -> {
+        }));
+        assertThatExceptionOfType(ConnectionException.class).isThrownBy(() -> retryLogic.retry(() -> {
+            attempts.incrementAndGet();
+            throw new ConnectionException("http://localhost:7474/db/data/transaction/commit",
+                new IOException("Unauthorized"));
+        }, () -> {
+        }));
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxRetryTime() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatExceptionOfType(CypherException.class).isThrownBy(() -> new TransactionRetryLogic(0).retry(() -> {
+            attempts.incrementAndGet();
+            throw new CypherException(DEADLOCK, "Deadlock");
+        }, () -> {
+        }));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDetectTransientErrors() {
+        assertThat(TransactionRetryLogic.isTransient(new CypherException(DEADLOCK, "Deadlock"))).isTrue();
+        assertThat(TransactionRetryLogic.isTransient(
+            new TransactionException("Commit failed", new CypherException(DEADLOCK, "Deadlock")))).isTrue();
+        assertThat(TransactionRetryLogic.isTransient(new TransientConnectionException("Leader switch", null))).isTrue();
+        assertThat(TransactionRetryLogic.isTransient(new ConnectionException("Circuit breaker open", null))).isFalse();
+        assertThat(TransactionRetryLogic.isTransient(
+            new CypherException("Neo.TransientError.Transaction.Terminated", "Terminated"))).isFalse();
+        assertThat(TransactionRetryLogic.isTransient(new IllegalStateException())).isFalse();
+    }
+}
@@ -41,6 +41,7 @@ import org.neo4j.graphdb.factory.GraphDatabaseBuilder;
 import org.neo4j.graphdb.factory.GraphDatabaseFactory;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.drivers.embedded.request.BulkWritingEmbeddedRequest;
 import org.neo4j.ogm.drivers.embedded.request.EmbeddedRequest;
 import org.neo4j.ogm.drivers.embedded.transaction.EmbeddedTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
@@ -190,6 +191,10 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request(Transaction transaction) {
+        if (configuration != null && Boolean.TRUE.equals(configuration.getEmbeddedBulkWrite())) {
+            return new BulkWritingEmbeddedRequest(graphDatabaseService, transaction, parameterConversion,
+                new EmbeddedEntityAdapter(typeSystem), getCypherModification());
+        }
         return new EmbeddedRequest(graphDatabaseService, transaction, parameterConversion, new EmbeddedEntityAdapter(typeSystem), getCypherModification());
     }
 
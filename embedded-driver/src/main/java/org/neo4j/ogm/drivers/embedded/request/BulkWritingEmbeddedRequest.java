@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.request;
+
+import java.util.function.Function;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedEntityAdapter;
+import org.neo4j.ogm.drivers.embedded.response.BulkWriteResponse;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.BulkWriteRequest;
+import org.neo4j.ogm.request.BulkWriteRequestHandler;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EmbeddedRequest} writing new nodes and relationships through the core API, used when bulk writes are
+ * enabled in the configuration of the driver.
+ */
+public class BulkWritingEmbeddedRequest extends EmbeddedRequest implements BulkWriteRequestHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkWritingEmbeddedRequest.class);
+
+    private final GraphDatabaseService graphDatabaseService;
+
+    public BulkWritingEmbeddedRequest(GraphDatabaseService graphDatabaseService, Transaction transaction,
+        ParameterConversion parameterConversion, EmbeddedEntityAdapter entityAdapter,
+        Function<String, String> cypherModification) {
+
+        super(graphDatabaseService, transaction, parameterConversion, entityAdapter, cypherModification);
+        this.graphDatabaseService = graphDatabaseService;
+    }
+
+    @Override
+    public Response<RowModel> execute(BulkWriteRequest request) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Bulk write of {} nodes and {} relationships", request.getNodes().size(),
+                request.getRelationships().size());
+        }
+        return new BulkWriteResponse(new EmbeddedBulkWriter(graphDatabaseService).write(request));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.request;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.BulkWriteRequest;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+/**
+ * Writes the nodes and relationships of a {@link BulkWriteRequest} through the core API, with the same semantics as
+ * the statements creating new nodes and relationships. Property values are written as they come from the mapper,
+ * collections are stored as arrays like Cypher does.
+ */
+final class EmbeddedBulkWriter {
+
+    private static final String[] COLUMNS = { "ref", "id", "type" };
+
+    /**
+     * The type of the native values used by the native types, which only exists from Neo4j 3.4 on. Null for older
+     * versions, which cannot produce such values.
+     */
+    private static final Class<?> NATIVE_VALUE_TYPE = findNativeValueType();
+    private static final Method AS_OBJECT_COPY = findAsObjectCopy(NATIVE_VALUE_TYPE);
+
+    private final GraphDatabaseService graphDatabaseService;
+
+    /**
+     * The nodes created or merged by this writer, keyed by their reference.
+     */
+    private final Map<Long, Node> writtenNodes = new HashMap<>();
+
+    EmbeddedBulkWriter(GraphDatabaseService graphDatabaseService) {
+        this.graphDatabaseService = graphDatabaseService;
+    }
+
+    List<RowModel> write(BulkWriteRequest request) {
+
+        List<RowModel> rows = new ArrayList<>(request.getNodes().size() + request.getRelationships().size());
+        for (org.neo4j.ogm.model.Node node : request.getNodes()) {
+            Node writtenNode = writeNode(node);
+            writtenNodes.put(node.getId(), writtenNode);
+            rows.add(row(node.getId(), writtenNode.getId(), "node"));
+        }
+        for (Edge edge : request.getRelationships()) {
+            Relationship writtenRelationship = writeRelationship(edge);
+            rows.add(row(edge.getId(), writtenRelationship.getId(), "rel"));
+        }
+        return rows;
+    }
+
+    private Node writeNode(org.neo4j.ogm.model.Node node) {
+
+        Label[] labels = new Label[node.getLabels().length];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = Label.label(node.getLabels()[i]);
+        }
+
+        String primaryIndex = node.getPrimaryIndex();
+        Node writtenNode = null;
+        if (primaryIndex != null) {
+            Object value = node.getPropertyMap().get(primaryIndex);
+            if (value == null) {
+                throw new IllegalArgumentException("Cannot merge node using null value for " + primaryIndex);
+            }
+            writtenNode = findNode(labels, primaryIndex, toPropertyValue(value));
+        }
+        if (writtenNode == null) {
+            writtenNode = graphDatabaseService.createNode(labels);
+        } else {
+            // Replace all properties, like SET n = row.props
+            List<String> keys = new ArrayList<>();
+            writtenNode.getPropertyKeys().forEach(keys::add);
+            keys.forEach(writtenNode::removeProperty);
+        }
+
+        for (Property<String, Object> property : node.getPropertyList()) {
+            if (property.getValue() != null) {
+                writtenNode.setProperty(property.getKey(), toPropertyValue(property.getValue()));
+            }
+        }
+        return writtenNode;
+    }
+
+    private Node findNode(Label[] labels, String key, Object value) {
+
+        if (labels.length == 0) {
+            throw new IllegalArgumentException("Cannot merge node without label on " + key);
+        }
+        try (ResourceIterator<Node> candidates = graphDatabaseService.findNodes(labels[0], key, value)) {
+            while (candidates.hasNext()) {
+                Node candidate = candidates.next();
+                if (hasLabels(candidate, labels)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Relationship writeRelationship(Edge edge) {
+
+        Node startNode = node(edge.getStartNode());
+        Node endNode = node(edge.getEndNode());
+        RelationshipType type = RelationshipType.withName(edge.getType());
+        String primaryId = edge.getPrimaryIdName();
+        Map<String, Object> properties = edge.getPropertyMap();
+
+        // Like the statements, relationships with properties are created unless they have a primary id
+        Relationship relationship = null;
+        if (properties.isEmpty() || primaryId != null) {
+            Object primaryIdValue = primaryId == null ? null : toPropertyValue(properties.get(primaryId));
+            if (primaryId != null && primaryIdValue == null) {
+                throw new IllegalArgumentException("Cannot merge relationship using null value for " + primaryId);
+            }
+            relationship = findRelationship(startNode, endNode, type, primaryId, primaryIdValue);
+        }
+        if (relationship == null) {
+            relationship = startNode.createRelationshipTo(endNode, type);
+        }
+
+        setProperties(relationship, properties);
+        return relationship;
+    }
+
+    private static Relationship findRelationship(Node startNode, Node endNode, RelationshipType type,
+        String primaryId, Object primaryIdValue) {
+
+        for (Relationship candidate : startNode.getRelationships(Direction.OUTGOING, type)) {
+            if (candidate.getEndNode().equals(endNode)
+                && (primaryId == null || primaryIdValue.equals(candidate.getProperty(primaryId, null)))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Node node(Long idOrReference) {
+
+        Node node = writtenNodes.get(idOrReference);
+        return node != null ? node : graphDatabaseService.getNodeById(idOrReference);
+    }
+
+    private static boolean hasLabels(Node node, Label[] labels) {
+        for (Label label : labels) {
+            if (!node.hasLabel(label)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void setProperties(PropertyContainer container, Map<String, Object> properties) {
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            if (property.getValue() == null) {
+                container.removeProperty(property.getKey());
+            } else {
+                container.setProperty(property.getKey(), toPropertyValue(property.getValue()));
+            }
+        }
+    }
+
+    /**
+     * The core API only stores arrays, while Cypher turns lists into arrays of longs, doubles or the type of their
+     * elements. Values already turned into their native representation are stored as the objects they wrap.
+     */
+    private static Object toPropertyValue(Object value) {
+
+        if (AS_OBJECT_COPY != null && NATIVE_VALUE_TYPE.isInstance(value)) {
+            return unwrapNativeValue(value);
+        }
+        if (!(value instanceof Collection)) {
+            return value;
+        }
+        Collection<?> collection = (Collection<?>) value;
+        if (collection.isEmpty()) {
+            return new String[0];
+        }
+
+        Object first = collection.iterator().next();
+        Class<?> componentType;
+        if (first instanceof Double || first instanceof Float) {
+            componentType = double.class;
+        } else if (first instanceof Number) {
+            componentType = long.class;
+        } else {
+            componentType = first.getClass();
+        }
+
+        Object array = Array.newInstance(componentType, collection.size());
+        int i = 0;
+        for (Object element : collection) {
+            if (componentType == double.class) {
+                Array.setDouble(array, i++, ((Number) element).doubleValue());
+            } else if (componentType == long.class) {
+                Array.setLong(array, i++, ((Number) element).longValue());
+            } else {
+                Array.set(array, i++, element);
+            }
+        }
+        return array;
+    }
+
+    private static Object unwrapNativeValue(Object value) {
+        try {
+            return AS_OBJECT_COPY.invoke(value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not unwrap native value " + value, e);
+        }
+    }
+
+    private static Class<?> findNativeValueType() {
+        try {
+            return Class.forName("org.neo4j.values.storable.Value", false, EmbeddedBulkWriter.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method findAsObjectCopy(Class<?> nativeValueType) {
+        try {
+            return nativeValueType == null ? null : nativeValueType.getMethod("asObjectCopy");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static RowModel row(Long ref, long id, String type) {
+        return new DefaultRowModel(new Object[] { ref, id, type }, COLUMNS);
+    }
+}
@@ -18,18 +18,23 @@
  */
 package org.neo4j.ogm.drivers.embedded.request;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
 
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.MultipleFoundException;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.graphdb.Result;
 import org.neo4j.ogm.driver.ParameterConversion;
 import org.neo4j.ogm.drivers.embedded.driver.EmbeddedEntityAdapter;
 import org.neo4j.ogm.drivers.embedded.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.GraphRowModelResponse;
+import org.neo4j.ogm.drivers.embedded.response.MultiStatementRowModelResponse;
+import org.neo4j.ogm.drivers.embedded.response.NodeGraphModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.RestModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.RowModelResponse;
 import org.neo4j.ogm.exception.CypherException;
@@ -40,6 +45,7 @@ import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.DefaultRequest;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.NodeByIdRequest;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.request.RestModelRequest;
 import org.neo4j.ogm.request.RowModelRequest;
@@ -85,9 +91,58 @@ public class EmbeddedRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         }
+        if (request instanceof NodeByIdRequest && transaction != null) {
+            Response<GraphModel> response = loadNodeById((NodeByIdRequest) request);
+            if (response != null) {
+                return response;
+            }
+        }
         return new GraphModelResponse(executeRequest(request), entityAdapter);
     }
 
+    /**
+     * Looks up the node of the given request through the core API, which saves parsing, planning and running its
+     * query. The core API needs the transaction of the request to be open.
+     *
+     * @param request The request loading a single node
+     * @return The response or null if the request cannot be answered without running its query
+     */
+    private Response<GraphModel> loadNodeById(NodeByIdRequest request) {
+
+        // A modified query might load something else
+        if (!cypherModification.apply(request.getStatement()).equals(request.getStatement())) {
+            return null;
+        }
+
+        Object id = parameterConversion.convertParameters(Collections.singletonMap("id", request.id())).get("id");
+        String label = request.label();
+        boolean hasLabel = label != null && !label.isEmpty();
+
+        Node node;
+        try {
+            if (request.primaryIndex() == null) {
+                node = graphDatabaseService.getNodeById(((Number) id).longValue());
+            } else if (hasLabel) {
+                node = graphDatabaseService.findNode(Label.label(label), request.primaryIndex(), id);
+            } else {
+                return null;
+            }
+        } catch (NotFoundException e) {
+            node = null;
+        } catch (MultipleFoundException e) {
+            return null;
+        }
+
+        if (node == null || (hasLabel && !node.hasLabel(Label.label(label)))) {
+            return new EmptyResponse();
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Loaded node {} with depth {} without running {}", node.getId(), request.depth(),
+                request.getStatement());
+        }
+        return new NodeGraphModelResponse(node, request.depth(), entityAdapter);
+    }
+
     @Override
     public Response<RowModel> execute(RowModelRequest request) {
         if (request.getStatement().length() == 0) {
@@ -98,43 +153,7 @@ public class EmbeddedRequest implements Request {
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
-        //TODO this is a hack to get the embedded driver to work with executing multiple statements
-        final List<RowModel> rowmodels = new ArrayList<>();
-        String[] columns = null;
-        for (Statement statement : query.getStatements()) {
-            Result result = executeRequest(statement);
-            if (columns == null) {
-                columns = result.columns().toArray(new String[result.columns().size()]);
-            }
-            RowModelResponse rowModelResponse = new RowModelResponse(result, entityAdapter);
-            RowModel model;
-            while ((model = rowModelResponse.next()) != null) {
-                rowmodels.add(model);
-            }
-            result.close();
-        }
-
-        final String[] finalColumns = columns;
-        return new Response<RowModel>() {
-            int currentRow = 0;
-
-            @Override
-            public RowModel next() {
-                if (currentRow < rowmodels.size()) {
-                    return rowmodels.get(currentRow++);
-                }
-                return null;
-            }
-
-            @Override
-            public void close() {
-            }
-
-            @Override
-            public String[] columns() {
-                return finalColumns;
-            }
-        };
+        return new MultiStatementRowModelResponse(query.getStatements(), this::executeRequest, entityAdapter);
     }
 
     @Override
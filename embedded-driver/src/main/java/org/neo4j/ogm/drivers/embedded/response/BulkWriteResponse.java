@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * The ids of the nodes and relationships written by a bulk write request.
+ */
+public class BulkWriteResponse implements Response<RowModel> {
+
+    private static final String[] COLUMNS = { "ref", "id", "type" };
+
+    private final Iterator<RowModel> rows;
+
+    public BulkWriteResponse(List<RowModel> rows) {
+        this.rows = rows.iterator();
+    }
+
+    @Override
+    public RowModel next() {
+        return rows.hasNext() ? rows.next() : null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS.clone();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.neo4j.graphdb.Result;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedEntityAdapter;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Returns the rows of several statements one after the other. A statement is only run when the rows of the previous
+ * one have been read, so that no more than one result is open and no rows are buffered.
+ * <p>
+ * The columns are the ones of the first statement.
+ */
+public class MultiStatementRowModelResponse implements Response<RowModel> {
+
+    private final Iterator<Statement> statements;
+    private final Function<Statement, Result> execution;
+    private final EmbeddedEntityAdapter entityAdapter;
+    private final String[] columns;
+
+    private RowModelResponse currentResponse;
+    private boolean failed;
+
+    /**
+     * Runs the first of the given statements right away, so that it fails early.
+     *
+     * @param statements    The statements to run
+     * @param execution     Runs a single statement
+     * @param entityAdapter The adapter for the rows
+     */
+    public MultiStatementRowModelResponse(List<Statement> statements, Function<Statement, Result> execution,
+        EmbeddedEntityAdapter entityAdapter) {
+
+        this.statements = statements.iterator();
+        this.execution = execution;
+        this.entityAdapter = entityAdapter;
+        this.currentResponse = nextResponse();
+        this.columns = currentResponse == null ? new String[0] : currentResponse.columns();
+    }
+
+    @Override
+    public RowModel next() {
+
+        try {
+            while (currentResponse != null) {
+                RowModel model = currentResponse.next();
+                if (model != null) {
+                    return model;
+                }
+                currentResponse.close();
+                currentResponse = nextResponse();
+            }
+            return null;
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the current result and runs the statements that haven't been run yet, as callers may close the response
+     * without reading all rows and still expect all statements to be applied. If a statement already failed, the
+     * remaining ones are skipped.
+     */
+    @Override
+    public void close() {
+
+        if (currentResponse != null) {
+            currentResponse.close();
+            currentResponse = null;
+        }
+        while (!failed && statements.hasNext()) {
+            execution.apply(statements.next()).close();
+        }
+    }
+
+    @Override
+    public String[] columns() {
+        return columns;
+    }
+
+    private RowModelResponse nextResponse() {
+        return statements.hasNext() ? new RowModelResponse(execution.apply(statements.next()), entityAdapter) : null;
+    }
+}
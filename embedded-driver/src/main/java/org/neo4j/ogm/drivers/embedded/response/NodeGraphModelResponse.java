@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedEntityAdapter;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A response with a single graph, made up of a node looked up through the core API and, for a depth of 1, its
+ * relationships and neighbours.
+ */
+public class NodeGraphModelResponse implements Response<GraphModel> {
+
+    private static final String[] COLUMNS = { "n", "r", "m" };
+
+    private final Node node;
+    private final int depth;
+    private final EmbeddedGraphModelAdapter adapter;
+
+    private boolean consumed;
+
+    public NodeGraphModelResponse(Node node, int depth, EmbeddedEntityAdapter entityAdapter) {
+        this.node = node;
+        this.depth = depth;
+        this.adapter = new EmbeddedGraphModelAdapter(entityAdapter);
+    }
+
+    @Override
+    public GraphModel next() {
+        if (consumed) {
+            return null;
+        }
+        consumed = true;
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put(COLUMNS[0], node);
+        if (depth > 0) {
+            List<Object> relationships = new ArrayList<>();
+            List<Object> neighbours = new ArrayList<>();
+            for (Relationship relationship : node.getRelationships()) {
+                relationships.add(relationship);
+                neighbours.add(relationship.getOtherNode(node));
+            }
+            row.put(COLUMNS[1], relationships);
+            row.put(COLUMNS[2], neighbours);
+        }
+        return adapter.adapt(row);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS.clone();
+    }
+}
@@ -46,6 +46,7 @@ import org.neo4j.values.storable.LocalDateTimeValue;
 import org.neo4j.values.storable.LocalTimeValue;
 import org.neo4j.values.storable.PointValue;
 import org.neo4j.values.storable.TimeValue;
+import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
 /**
@@ -121,6 +122,11 @@ class EmbeddedNativeTypes implements TypeSystem {
         return mappedToNativeAdapter.hasAdapterFor(clazz);
     }
 
+    @Override
+    public boolean isNativeValue(Object value) {
+        return value instanceof Value;
+    }
+
     @Override
     public Function<Object, Object> getNativeToMappedTypeAdapter(Class<?> clazz) {
         return nativeToMappedAdapter.getAdapterFor(clazz);
@@ -23,32 +23,37 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
-import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.config.ObjectMapperFactory;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.driver.ConnectionPoolStatistics;
 import org.neo4j.ogm.drivers.http.request.HttpRequest;
 import org.neo4j.ogm.drivers.http.request.HttpRequestException;
+import org.neo4j.ogm.drivers.http.request.HttpRetryPolicy;
 import org.neo4j.ogm.drivers.http.transaction.HttpTransaction;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.request.DefaultRequest;
@@ -73,6 +78,8 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
 
     private CloseableHttpClient httpClient;
+    volatile PoolingHttpClientConnectionManager connectionManager;
+    private HttpRetryPolicy retryPolicy = new HttpRetryPolicy();
 
     public HttpDriver() {
     }
@@ -85,10 +92,13 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     public void configure(Configuration newConfiguration) {
         super.configure(newConfiguration);
 
+        this.retryPolicy = HttpRetryPolicy.of(newConfiguration);
+
         if (newConfiguration.getVerifyConnection()) {
             httpClient();
 
-            HttpRequest request = new HttpRequest(httpClient(), requestUrl(null), this.configuration.getCredentials(), true);
+            HttpRequest request = new HttpRequest(httpClient(), requestUrl(null), this.configuration.getCredentials(),
+                true, retryPolicy);
             request.execute(new VerifyRequest());
         }
     }
@@ -113,10 +123,13 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     @Override
     public Request request(Transaction transaction) {
         if (transaction == null) {
-            return new HttpRequest(httpClient(), requestUrl(transaction), configuration.getCredentials());
+            return new HttpRequest(httpClient(), requestUrl(transaction), configuration.getCredentials(), false,
+                retryPolicy);
         } else {
+            HttpTransaction httpTransaction = (HttpTransaction) transaction;
+            // The first request of a transaction begins it on the server, saving a separate round trip
             return new HttpRequest(httpClient(), requestUrl(transaction), configuration.getCredentials(),
-                transaction.isReadOnly());
+                transaction.isReadOnly(), retryPolicy, httpTransaction.url() == null ? httpTransaction::begun : null);
         }
     }
 
@@ -127,14 +140,14 @@ public final class HttpDriver extends AbstractConfigurableDriver {
                 LOGGER.warn("Passing bookmarks {} to EmbeddedDriver. This is not currently supported.", bookmarks);
             }
 
-            return new HttpTransaction(transactionManager, this, newTransactionUrl(type), type);
+            return new HttpTransaction(transactionManager, this, type);
         };
     }
 
     public CloseableHttpResponse executeHttpRequest(HttpRequestBase request) throws HttpRequestException {
 
         try (CloseableHttpResponse response = HttpRequest
-            .execute(httpClient(), request, configuration.getCredentials())) {
+            .execute(httpClient(), request, configuration.getCredentials(), retryPolicy)) {
             HttpEntity responseEntity = response.getEntity();
             if (responseEntity != null) {
                 JsonNode responseNode = mapper.readTree(EntityUtils.toString(responseEntity));
@@ -154,20 +167,19 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         }
     }
 
-    private String newTransactionUrl(Transaction.Type type) {
-
-        String url = transactionEndpoint(configuration.getURI());
-        LOGGER.debug("Thread: {}, POST {}", Thread.currentThread().getId(), url);
-
-        HttpPost request = new HttpPost(url);
-        request.setHeader("X-WRITE", type == Transaction.Type.READ_ONLY ? "0" : "1");
-
-        try (CloseableHttpResponse response = executeHttpRequest(request)) {
-            Header location = response.getHeaders("Location")[0];
-            return location.getValue();
-        } catch (IOException ioe) {
-            throw new HttpRequestException(request, ioe);
+    /**
+     * @return Statistics of the connection pool, {@literal null} if the driver has not created its client yet or uses a
+     * client passed by the application
+     */
+    @Override
+    public ConnectionPoolStatistics getConnectionPoolStatistics() {
+        PoolingHttpClientConnectionManager manager = connectionManager;
+        if (manager == null) {
+            return null;
         }
+        PoolStats stats = manager.getTotalStats();
+        return new ConnectionPoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(),
+            stats.getMax());
     }
 
     private String autoCommitUrl() {
@@ -192,6 +204,10 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         String url;
         if (tx != null) {
             url = ((HttpTransaction) tx).url();
+            if (url == null) {
+                LOGGER.debug("Thread: {}, Beginning transaction with first request", threadId);
+                url = transactionEndpoint(configuration.getURI());
+            }
         } else {
             LOGGER.debug("Thread: {}, No current transaction, using auto-commit", threadId);
             url = autoCommitUrl();
@@ -238,17 +254,36 @@ public final class HttpDriver extends AbstractConfigurableDriver {
                     .build();
 
                 // allows multi-threaded use
-                PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                PoolingHttpClientConnectionManager poolingConnectionManager = new PoolingHttpClientConnectionManager(
                     socketFactoryRegistry);
 
                 Integer connectionPoolSize = configuration.getConnectionPoolSize();
 
-                connectionManager.setMaxTotal(connectionPoolSize);
-                connectionManager.setDefaultMaxPerRoute(connectionPoolSize);
+                poolingConnectionManager.setMaxTotal(connectionPoolSize);
+                poolingConnectionManager.setDefaultMaxPerRoute(connectionPoolSize);
+                if (configuration.getHttpValidateAfterInactivity() != null) {
+                    poolingConnectionManager.setValidateAfterInactivity(configuration.getHttpValidateAfterInactivity());
+                }
 
-                httpClientBuilder.setConnectionManager(connectionManager);
+                httpClientBuilder.setConnectionManager(poolingConnectionManager);
+                httpClientBuilder.setDefaultRequestConfig(RequestConfig.custom()
+                    .setConnectTimeout(timeout(configuration.getHttpConnectTimeout()))
+                    .setSocketTimeout(timeout(configuration.getHttpSocketTimeout()))
+                    .setConnectionRequestTimeout(timeout(configuration.getHttpConnectionRequestTimeout()))
+                    .build());
+
+                if (configuration.getHttpMaxIdleTime() != null) {
+                    // The evictor runs in a background thread, which is stopped when the client is closed
+                    httpClientBuilder.evictExpiredConnections();
+                    httpClientBuilder.evictIdleConnections(configuration.getHttpMaxIdleTime().longValue(),
+                        TimeUnit.MILLISECONDS);
+                }
+                if (configuration.getHttpKeepAliveTime() != null) {
+                    httpClientBuilder.setKeepAliveStrategy(keepAliveStrategy(configuration.getHttpKeepAliveTime()));
+                }
 
                 httpClient = httpClientBuilder.build();
+                this.connectionManager = poolingConnectionManager;
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -257,6 +292,26 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         return httpClient;
     }
 
+    /**
+     * @param timeout A configured timeout in milliseconds or {@literal null}
+     * @return The timeout or -1, which leaves the timeout to the defaults of the system
+     */
+    private static int timeout(Integer timeout) {
+        return timeout == null ? -1 : timeout;
+    }
+
+    /**
+     * Keeps connections alive as long as the server says in its {@code Keep-Alive} header or for the given time if the
+     * server does not say anything.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAliveTime) {
+        return (response, context) -> {
+            long serverKeepAliveTime = DefaultConnectionKeepAliveStrategy.INSTANCE
+                .getKeepAliveDuration(response, context);
+            return serverKeepAliveTime > 0 ? serverKeepAliveTime : keepAliveTime;
+        };
+    }
+
     private static class VerifyRequest implements DefaultRequest {
         @Override
         public List<Statement> getStatements() {
@@ -21,9 +21,10 @@ package org.neo4j.ogm.drivers.http.request;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.NoHttpResponseException;
 import org.apache.http.StatusLine;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpResponseException;
@@ -76,20 +77,55 @@ public class HttpRequest implements Request {
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
     private static final String JSON_PARSE_ERROR_EXCEPTION_MESSAGE = "Could not parse the servers response as JSON";
 
-    private final String url;
+    private String url;
     private final CloseableHttpClient httpClient;
     private final Credentials credentials;
     private final boolean readOnly;
-
+    private final HttpRetryPolicy retryPolicy;
+    private Consumer<String> transactionBegun;
+
+    /**
+     * @deprecated since 3.2, the request is retried without circuit breaker. Use a constructor taking the retry
+     * policy of the driver.
+     */
+    @Deprecated
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials) {
         this(httpClient, url, credentials, false);
     }
 
+    /**
+     * @deprecated since 3.2, the request is retried without circuit breaker. Use a constructor taking the retry
+     * policy of the driver.
+     */
+    @Deprecated
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly) {
+        this(httpClient, url, credentials, readOnly, HttpRetryPolicy.WITHOUT_CIRCUIT_BREAKER);
+    }
+
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly,
+        HttpRetryPolicy retryPolicy) {
+        this(httpClient, url, credentials, readOnly, retryPolicy, null);
+    }
+
+    /**
+     * Creates a request whose first statements may begin a new transaction. The url of the transaction returned by the
+     * server is passed to the given callback and used for all further statements of this request.
+     *
+     * @param httpClient       The client to use
+     * @param url              The url to post the statements to
+     * @param credentials      The credentials to authorize with, may be null
+     * @param readOnly         Whether the statements only read
+     * @param retryPolicy      The policy for retrying failed requests
+     * @param transactionBegun Called with the url of a transaction begun by the statements, may be null
+     */
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly,
+        HttpRetryPolicy retryPolicy, Consumer<String> transactionBegun) {
         this.httpClient = httpClient;
         this.url = url;
         this.credentials = credentials;
         this.readOnly = readOnly;
+        this.retryPolicy = retryPolicy;
+        this.transactionBegun = transactionBegun;
     }
 
     @Override
@@ -173,11 +209,39 @@ public class HttpRequest implements Request {
             LOGGER.debug("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, cypher);
         }
 
-        return execute(httpClient, request, credentials);
+        // A request beginning a transaction is not retried: if only its response got lost, the server has begun a
+        // transaction nobody knows the url of, and a retry would begin another one.
+        CloseableHttpResponse response = execute(httpClient, request, credentials, retryPolicy,
+            transactionBegun == null);
+        if (transactionBegun != null) {
+            Header location = response.getFirstHeader("Location");
+            if (location != null) {
+                url = location.getValue();
+                transactionBegun.accept(url);
+                transactionBegun = null;
+            }
+        }
+        return response;
     }
 
+    /**
+     * @deprecated since 3.2, the request is retried without circuit breaker. Use
+     * {@link #execute(CloseableHttpClient, HttpRequestBase, Credentials, HttpRetryPolicy)} with the retry policy of the
+     * driver.
+     */
+    @Deprecated
     public static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request,
         Credentials credentials) throws HttpRequestException {
+        return execute(httpClient, request, credentials, HttpRetryPolicy.WITHOUT_CIRCUIT_BREAKER);
+    }
+
+    public static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request,
+        Credentials credentials, HttpRetryPolicy retryPolicy) throws HttpRequestException {
+        return execute(httpClient, request, credentials, retryPolicy, true);
+    }
+
+    private static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request,
+        Credentials credentials, HttpRetryPolicy retryPolicy, boolean retryable) throws HttpRequestException {
 
         LOGGER.debug("Thread: {}, request: {}", Thread.currentThread().getId(), request);
 
@@ -189,10 +253,9 @@ public class HttpRequest implements Request {
 
         HttpAuthorization.authorize(request, credentials);
 
-        // use defaults: 3 retries, 2 second wait between attempts
-        RetryOnExceptionStrategy retryStrategy = new RetryOnExceptionStrategy();
+        retryPolicy.beforeRequest(request.getURI().toString());
 
-        while (retryStrategy.shouldRetry()) {
+        for (int attempt = 1; ; attempt++) {
 
             try {
 
@@ -213,76 +276,41 @@ public class HttpRequest implements Request {
                     throw new ClientProtocolException("Response contains no content");
                 }
 
+                retryPolicy.onSuccess();
                 return response; // don't close response yet, it is not consumed!
-            } catch (NoHttpResponseException nhre) {
-                // if we didn't get a response at all, try again
-                LOGGER.warn("Thread: {}, No response from server:  Retrying in {} milliseconds, retries left: {}",
-                    Thread.currentThread().getId(), retryStrategy.getTimeToWait(), retryStrategy.numberOfTriesLeft);
-                retryStrategy.errorOccurred();
-            } catch (RetryException re) {
-                throw new HttpRequestException(request, re);
-            } catch (ClientProtocolException uhe) {
-                throw new ConnectionException(request.getURI().toString(), uhe);
             } catch (IOException ioe) {
+                if (retryable && retryPolicy.shouldRetry(ioe, attempt)) {
+                    long backoff = retryPolicy.backoff(attempt);
+                    LOGGER.warn("Thread: {}, Attempt {} failed: {}, retrying in {} milliseconds",
+                        Thread.currentThread().getId(), attempt, ioe.getMessage(), backoff);
+                    waitBeforeRetry(request, ioe, backoff);
+                    continue;
+                }
+                retryPolicy.onFailure(ioe);
+                if (ioe instanceof ClientProtocolException) {
+                    throw new ConnectionException(request.getURI().toString(), ioe);
+                }
                 throw new HttpRequestException(request, ioe);
             } catch (Exception exception) {
                 // here we catch any exception we throw above (plus any we didn't throw ourselves),
                 // log the problem, close any connection held by the request
                 // and then rethrow the exception to the caller.
                 LOGGER.warn("Thread: {}, exception: {}", Thread.currentThread().getId(),
-                    exception.getCause().getLocalizedMessage());
+                    exception.getLocalizedMessage());
                 request.releaseConnection();
                 throw exception;
             }
         }
-        throw new RuntimeException("Fatal Exception: Should not have occurred!");
     }
 
-    static class RetryOnExceptionStrategy {
-
-        public static final int DEFAULT_RETRIES = 3;
-        public static final long DEFAULT_WAIT_TIME_IN_MILLI = 2000;
-
-        private int numberOfRetries;
-        private int numberOfTriesLeft;
-        private long timeToWait;
-
-        RetryOnExceptionStrategy() {
-            this(DEFAULT_RETRIES, DEFAULT_WAIT_TIME_IN_MILLI);
-        }
-
-        RetryOnExceptionStrategy(int numberOfRetries, long timeToWait) {
-            this.numberOfRetries = numberOfRetries;
-            numberOfTriesLeft = numberOfRetries;
-            this.timeToWait = timeToWait;
-        }
-
-        /**
-         * @return true if there are tries left
-         */
-        public boolean shouldRetry() {
-            return numberOfTriesLeft > 0;
-        }
-
-        public void errorOccurred() {
-            numberOfTriesLeft--;
-            if (!shouldRetry()) {
-                throw new RetryException("Retry Failed: Total " + numberOfRetries
-                    + " attempts made at interval " + getTimeToWait()
-                    + "ms");
-            }
-            waitUntilNextTry();
-        }
-
-        public long getTimeToWait() {
-            return timeToWait;
-        }
-
-        private void waitUntilNextTry() {
-            try {
-                Thread.sleep(getTimeToWait());
-            } catch (InterruptedException ignored) {
-            }
+    private static void waitBeforeRetry(HttpRequestBase request, IOException failure, long backoff) {
+        // makes the request reusable and releases a connection possibly still held
+        request.releaseConnection();
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpRequestException(request, failure);
         }
     }
 
@@ -305,11 +333,4 @@ public class HttpRequest implements Request {
             throw new RuntimeException(e);
         }
     }
-
-    static class RetryException extends RuntimeException {
-
-        RetryException(String msg) {
-            super(msg);
-        }
-    }
 }
@@ -19,12 +19,12 @@
 package org.neo4j.ogm.drivers.http.request;
 
 import org.apache.http.client.methods.HttpRequestBase;
-import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.TransientConnectionException;
 
 /**
  * @author vince
  */
-public class HttpRequestException extends ConnectionException {
+public class HttpRequestException extends TransientConnectionException {
 
     public HttpRequestException(HttpRequestBase request, Exception hre) {
         super(request.getURI().toString() + ": " + hre.getLocalizedMessage(), hre);
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.http.request;
+
+import static java.util.stream.Collectors.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpHostConnectException;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides which failed HTTP requests are retried and how long to wait before the next attempt. The time between
+ * attempts grows exponentially and is varied by a random jitter.
+ * <p>
+ * The policy also acts as a circuit breaker: When a number of consecutive requests failed with a retryable error after
+ * all attempts, the server is considered down and further requests fail immediately until the breaker closes again.
+ * A policy is therefore shared by all requests of a driver and is thread safe.
+ */
+public final class HttpRetryPolicy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpRetryPolicy.class);
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF_MS = 200;
+    public static final long DEFAULT_MAX_BACKOFF_MS = 2_000;
+    public static final double DEFAULT_JITTER = 0.2;
+    public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 5;
+    public static final long DEFAULT_CIRCUIT_BREAKER_OPEN_TIME_MS = 10_000;
+
+    private static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Collections
+        .singleton(HttpStatus.SC_SERVICE_UNAVAILABLE);
+    private static final List<Class<?>> DEFAULT_RETRYABLE_EXCEPTIONS = Arrays
+        .asList(NoHttpResponseException.class, HttpHostConnectException.class, ConnectTimeoutException.class);
+
+    /**
+     * A policy sending each request up to three times, waiting two seconds between the attempts, as requests did
+     * before the retry policy was configurable. It has no circuit breaker and therefore keeps no state between
+     * requests, so it can be shared by requests not belonging to a driver.
+     */
+    public static final HttpRetryPolicy WITHOUT_CIRCUIT_BREAKER = new HttpRetryPolicy(DEFAULT_MAX_ATTEMPTS, 2_000,
+        2_000, 0.0, DEFAULT_RETRYABLE_STATUS_CODES, DEFAULT_RETRYABLE_EXCEPTIONS, 0, 0);
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final double jitter;
+    private final Set<Integer> retryableStatusCodes;
+    private final List<Class<?>> retryableExceptions;
+    private final int circuitBreakerThreshold;
+    private final long circuitBreakerOpenTimeMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil;
+
+    /**
+     * Creates a policy with the default settings.
+     */
+    public HttpRetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF_MS, DEFAULT_MAX_BACKOFF_MS, DEFAULT_JITTER,
+            DEFAULT_RETRYABLE_STATUS_CODES, DEFAULT_RETRYABLE_EXCEPTIONS, DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+            DEFAULT_CIRCUIT_BREAKER_OPEN_TIME_MS);
+    }
+
+    HttpRetryPolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs, double jitter,
+        Set<Integer> retryableStatusCodes, List<Class<?>> retryableExceptions, int circuitBreakerThreshold,
+        long circuitBreakerOpenTimeMs) {
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1, was " + maxAttempts);
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1, was " + jitter);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = Math.max(initialBackoffMs, maxBackoffMs);
+        this.jitter = jitter;
+        this.retryableStatusCodes = retryableStatusCodes;
+        this.retryableExceptions = retryableExceptions;
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+        this.circuitBreakerOpenTimeMs = circuitBreakerOpenTimeMs;
+    }
+
+    /**
+     * Creates a policy from the HTTP retry settings of the given configuration, using the defaults for missing ones.
+     *
+     * @param configuration The configuration of the driver
+     * @return A new policy
+     */
+    public static HttpRetryPolicy of(Configuration configuration) {
+
+        Set<Integer> statusCodes = configuration.getHttpRetryStatusCodes() == null ?
+            DEFAULT_RETRYABLE_STATUS_CODES :
+            Arrays.stream(configuration.getHttpRetryStatusCodes()).collect(toSet());
+        List<Class<?>> exceptions = configuration.getHttpRetryExceptions() == null ?
+            DEFAULT_RETRYABLE_EXCEPTIONS :
+            Arrays.stream(configuration.getHttpRetryExceptions()).map(HttpRetryPolicy::loadClass).collect(toList());
+
+        return new HttpRetryPolicy(
+            valueOrDefault(configuration.getHttpRetryMaxAttempts(), DEFAULT_MAX_ATTEMPTS),
+            valueOrDefault(configuration.getHttpRetryInitialBackoff(), DEFAULT_INITIAL_BACKOFF_MS),
+            valueOrDefault(configuration.getHttpRetryMaxBackoff(), DEFAULT_MAX_BACKOFF_MS),
+            configuration.getHttpRetryJitter() == null ? DEFAULT_JITTER : configuration.getHttpRetryJitter(),
+            statusCodes,
+            exceptions,
+            valueOrDefault(configuration.getHttpCircuitBreakerThreshold(), DEFAULT_CIRCUIT_BREAKER_THRESHOLD),
+            valueOrDefault(configuration.getHttpCircuitBreakerOpenTime(), DEFAULT_CIRCUIT_BREAKER_OPEN_TIME_MS));
+    }
+
+    /**
+     * Fails fast while the circuit breaker is open.
+     *
+     * @param uri The uri of the request about to be sent
+     * @throws ConnectionException if the circuit breaker is open
+     */
+    void beforeRequest(String uri) {
+        long until = openUntil;
+        if (until != 0 && System.currentTimeMillis() < until) {
+            throw new ConnectionException("Not sending request to " + uri + ": " + consecutiveFailures.get()
+                + " consecutive requests failed, server is considered unavailable", null);
+        }
+    }
+
+    /**
+     * @param failure The failure of an attempt
+     * @param attempt The number of the failed attempt, starting at 1
+     * @return True if the request should be sent again
+     */
+    boolean shouldRetry(Exception failure, int attempt) {
+        return attempt < maxAttempts && isRetryable(failure);
+    }
+
+    /**
+     * @param attempt The number of the failed attempt, starting at 1
+     * @return The time in milliseconds to wait before the next attempt
+     */
+    long backoff(int attempt) {
+
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 30));
+        long range = (long) (backoff * jitter);
+        return range == 0 ? backoff : ThreadLocalRandom.current().nextLong(backoff - range, backoff + range + 1);
+    }
+
+    void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+            openUntil = 0;
+        }
+    }
+
+    /**
+     * Records a request that failed after its last attempt. Only retryable failures count towards opening the
+     * circuit breaker, as other failures don't indicate an unavailable server.
+     *
+     * @param failure The failure of the last attempt
+     */
+    void onFailure(Exception failure) {
+
+        if (circuitBreakerThreshold <= 0 || !isRetryable(failure)) {
+            return;
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= circuitBreakerThreshold) {
+            long now = System.currentTimeMillis();
+            if (now >= openUntil) {
+                LOGGER.warn("{} consecutive requests failed, failing requests for the next {} ms", failures,
+                    circuitBreakerOpenTimeMs);
+            }
+            openUntil = now + circuitBreakerOpenTimeMs;
+        }
+    }
+
+    private boolean isRetryable(Exception failure) {
+
+        if (failure instanceof HttpResponseException) {
+            return retryableStatusCodes.contains(((HttpResponseException) failure).getStatusCode());
+        }
+        for (Class<?> retryableException : retryableExceptions) {
+            if (retryableException.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long valueOrDefault(Integer value, long defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className.trim(), false, HttpRetryPolicy.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown retryable exception " + className, e);
+        }
+    }
+}
@@ -31,6 +31,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * A transaction of the transactional HTTP endpoint. The transaction is begun on the server by the first request sent
+ * within it, which is posted to the endpoint for new transactions. The server responds with the url of the new
+ * transaction, which is used for all further requests. A transaction in which no request has been sent doesn't exist on
+ * the server and is committed or rolled back without any request.
+ *
  * @author Vince Bickers
  * @author Michael J. Simons
  */
@@ -39,7 +44,11 @@ public class HttpTransaction extends AbstractTransaction {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpDriver.class);
 
     private final HttpDriver driver;
-    private final String url;
+    private String url;
+
+    public HttpTransaction(TransactionManager transactionManager, HttpDriver driver, Transaction.Type type) {
+        this(transactionManager, driver, null, type);
+    }
 
     public HttpTransaction(TransactionManager transactionManager, HttpDriver driver, String url,
         Transaction.Type type) {
@@ -53,7 +62,7 @@ public class HttpTransaction extends AbstractTransaction {
     public void rollback() {
 
         try {
-            if (transactionManager.canRollback()) {
+            if (transactionManager.canRollback() && url != null) {
                 HttpDelete request = new HttpDelete(url);
                 request.setHeader(new BasicHeader("X-WRITE", readOnly() ? "0" : "1"));
                 driver.executeHttpRequest(request);
@@ -69,7 +78,7 @@ public class HttpTransaction extends AbstractTransaction {
     public void commit() {
 
         try {
-            if (transactionManager.canCommit()) {
+            if (transactionManager.canCommit() && url != null) {
                 HttpPost request = new HttpPost(url + "/commit");
                 request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE, "application/json;charset=UTF-8"));
                 request.setHeader(new BasicHeader("X-WRITE", readOnly() ? "0" : "1"));
@@ -92,7 +101,19 @@ public class HttpTransaction extends AbstractTransaction {
         return false; // its read-write by default
     }
 
+    /**
+     * @return The url of this transaction on the server, {@literal null} if it has not been begun yet
+     */
     public String url() {
         return url;
     }
+
+    /**
+     * Called with the url of this transaction when the first request sent within it has begun it on the server.
+     *
+     * @param transactionUrl The url of the transaction
+     */
+    public void begun(String transactionUrl) {
+        this.url = transactionUrl;
+    }
 }
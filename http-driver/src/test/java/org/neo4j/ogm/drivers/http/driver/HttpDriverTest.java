@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.http.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.driver.ConnectionPoolStatistics;
+
+public class HttpDriverTest {
+
+    @Test
+    public void shouldConfigureConnectionManagerWithPoolSettings() {
+        Configuration configuration = new Configuration.Builder()
+            .uri("http://localhost:7474")
+            .connectionPoolSize(7)
+            .httpValidateAfterInactivity(1500)
+            .build();
+
+        HttpDriver driver = new HttpDriver();
+        try {
+            driver.configure(configuration);
+            assertThat(driver.getConnectionPoolStatistics()).isNull();
+
+            // The client and its pool are created with the first request
+            driver.request(null);
+
+            PoolingHttpClientConnectionManager connectionManager = driver.connectionManager;
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(7);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(7);
+            assertThat(connectionManager.getValidateAfterInactivity()).isEqualTo(1500);
+
+            ConnectionPoolStatistics statistics = driver.getConnectionPoolStatistics();
+            assertThat(statistics.getMax()).isEqualTo(7);
+            assertThat(statistics.getLeased()).isZero();
+            assertThat(statistics.getPending()).isZero();
+            assertThat(statistics.getAvailable()).isZero();
+        } finally {
+            driver.close();
+        }
+    }
+
+    @Test
+    public void shouldNotReportPoolOfClientPassedByApplication() {
+        HttpDriver driver = new HttpDriver(HttpClients.createDefault());
+        try {
+            driver.configure(new Configuration.Builder().uri("http://localhost:7474").build());
+            driver.request(null);
+
+            assertThat(driver.getConnectionPoolStatistics()).isNull();
+        } finally {
+            driver.close();
+        }
+    }
+}
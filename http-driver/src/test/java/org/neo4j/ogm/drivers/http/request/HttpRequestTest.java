@@ -22,11 +22,22 @@ import static org.apache.http.HttpHeaders.*;
 import static org.apache.http.entity.ContentType.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.apache.http.HttpStatus;
+import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.methods.HttpGet;
 import org.junit.Test;
 import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
 
 import com.github.paweladamski.httpclientmock.HttpClientMock;
 
@@ -85,4 +96,82 @@ public class HttpRequestTest {
             .withRootCauseInstanceOf(HttpResponseException.class)
             .withStackTraceContaining("Could not parse the servers response as JSON");
     }
+
+    @Test
+    public void shouldBeginTransactionWithFirstRequest() {
+        final String beginUrl = "http://localhost/db/data/transaction";
+        final String transactionUrl = "http://localhost/db/data/transaction/1";
+        final String emptyResult = "{\"results\":[{\"columns\":[\"n\"],\"data\":[]}],\"errors\":[]}";
+
+        final HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(beginUrl)
+            .doReturn(emptyResult)
+            .withStatus(HttpStatus.SC_CREATED)
+            .withHeader(LOCATION, transactionUrl);
+        httpClientMock.onPost(transactionUrl)
+            .doReturn(emptyResult);
+
+        List<String> begunTransactions = new ArrayList<>();
+        HttpRequest request = new HttpRequest(httpClientMock, beginUrl, null, false, new HttpRetryPolicy(),
+            begunTransactions::add);
+        DefaultRequest statements = () -> Collections.singletonList(new ReturnOne());
+
+        try (Response<?> response = request.execute(statements)) {
+            assertThat(begunTransactions).containsExactly(transactionUrl);
+        }
+        try (Response<?> response = request.execute(statements)) {
+            assertThat(begunTransactions).containsExactly(transactionUrl);
+        }
+
+        httpClientMock.verify().post(beginUrl).called(1);
+        httpClientMock.verify().post(transactionUrl).called(1);
+    }
+
+    @Test
+    public void shouldNotRetryRequestBeginningTransaction() {
+        final String beginUrl = "http://localhost/db/data/transaction";
+
+        final HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(beginUrl)
+            .doThrowException(new NoHttpResponseException("Response lost"));
+
+        List<String> begunTransactions = new ArrayList<>();
+        HttpRequest request = new HttpRequest(httpClientMock, beginUrl, null, false, new HttpRetryPolicy(),
+            begunTransactions::add);
+        DefaultRequest statements = () -> Collections.singletonList(new ReturnOne());
+
+        assertThatExceptionOfType(HttpRequestException.class)
+            .isThrownBy(() -> request.execute(statements));
+
+        assertThat(begunTransactions).isEmpty();
+        httpClientMock.verify().post(beginUrl).called(1);
+    }
+
+    private static class ReturnOne implements Statement {
+
+        @Override
+        public String getStatement() {
+            return "RETURN 1 AS n";
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String[] getResultDataContents() {
+            return new String[] { "row" };
+        }
+
+        @Override
+        public boolean isIncludeStats() {
+            return false;
+        }
+
+        @Override
+        public Optional<OptimisticLockingConfig> optimisticLockingConfig() {
+            return Optional.empty();
+        }
+    }
 }
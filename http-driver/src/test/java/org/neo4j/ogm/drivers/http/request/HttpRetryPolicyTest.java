@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.http.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.HttpResponseException;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.exception.ConnectionException;
+
+public class HttpRetryPolicyTest {
+
+    private static final String URI = "http://localhost:7474/db/data/transaction/commit";
+
+    private final HttpRetryPolicy retryPolicy = new HttpRetryPolicy(3, 100, 250, 0.0,
+        Collections.singleton(HttpStatus.SC_SERVICE_UNAVAILABLE),
+        Collections.<Class<?>>singletonList(NoHttpResponseException.class), 2, 60_000);
+
+    @Test
+    public void shouldRetryRetryableFailuresUntilMaxAttempts() {
+        IOException noResponse = new NoHttpResponseException("No response");
+
+        assertThat(retryPolicy.shouldRetry(noResponse, 1)).isTrue();
+        assertThat(retryPolicy.shouldRetry(noResponse, 2)).isTrue();
+        assertThat(retryPolicy.shouldRetry(noResponse, 3)).isFalse();
+        assertThat(retryPolicy.shouldRetry(new HttpResponseException(HttpStatus.SC_SERVICE_UNAVAILABLE, ""), 1))
+            .isTrue();
+        assertThat(retryPolicy.shouldRetry(new HttpResponseException(HttpStatus.SC_BAD_REQUEST, ""), 1)).isFalse();
+        assertThat(retryPolicy.shouldRetry(new IOException("Broken"), 1)).isFalse();
+    }
+
+    @Test
+    public void shouldBackOffExponentiallyUpToMaxBackoff() {
+        assertThat(retryPolicy.backoff(1)).isEqualTo(100);
+        assertThat(retryPolicy.backoff(2)).isEqualTo(200);
+        assertThat(retryPolicy.backoff(3)).isEqualTo(250);
+    }
+
+    @Test
+    public void shouldApplyJitter() {
+        HttpRetryPolicy policy = new HttpRetryPolicy();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoff(1)).isBetween(160L, 240L);
+        }
+    }
+
+    @Test
+    public void shouldFailFastWhileCircuitBreakerIsOpen() {
+        IOException noResponse = new NoHttpResponseException("No response");
+
+        retryPolicy.onFailure(noResponse);
+        retryPolicy.beforeRequest(URI);
+
+        retryPolicy.onFailure(noResponse);
+        assertThatExceptionOfType(ConnectionException.class).isThrownBy(() -> retryPolicy.beforeRequest(URI));
+
+        retryPolicy.onSuccess();
+        retryPolicy.beforeRequest(URI);
+    }
+
+    @Test
+    public void shouldNotCountOtherFailuresTowardsCircuitBreaker() {
+        retryPolicy.onFailure(new HttpResponseException(HttpStatus.SC_BAD_REQUEST, ""));
+        retryPolicy.onFailure(new HttpResponseException(HttpStatus.SC_BAD_REQUEST, ""));
+
+        retryPolicy.beforeRequest(URI);
+    }
+
+    @Test
+    public void shouldRetryWithoutOpeningCircuitBreakerWithoutPolicyOfDriver() {
+        IOException noResponse = new NoHttpResponseException("No response");
+        HttpRetryPolicy sharedPolicy = HttpRetryPolicy.WITHOUT_CIRCUIT_BREAKER;
+
+        assertThat(sharedPolicy.shouldRetry(noResponse, 2)).isTrue();
+        assertThat(sharedPolicy.shouldRetry(noResponse, 3)).isFalse();
+        assertThat(sharedPolicy.backoff(1)).isEqualTo(2_000);
+        assertThat(sharedPolicy.backoff(2)).isEqualTo(2_000);
+        for (int i = 0; i < 10; i++) {
+            sharedPolicy.onFailure(noResponse);
+        }
+        sharedPolicy.beforeRequest(URI);
+    }
+
+    @Test
+    public void shouldCreatePolicyFromConfiguration() {
+        Configuration configuration = new Configuration.Builder()
+            .uri("http://localhost:7474")
+            .httpRetryMaxAttempts(2)
+            .httpRetryExceptions(IOException.class.getName())
+            .build();
+
+        HttpRetryPolicy policy = HttpRetryPolicy.of(configuration);
+
+        assertThat(policy.shouldRetry(new IOException("Broken"), 1)).isTrue();
+        assertThat(policy.shouldRetry(new IOException("Broken"), 2)).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> HttpRetryPolicy.of(new Configuration.Builder()
+            .uri("http://localhost:7474")
+            .httpRetryExceptions("org.example.UnknownException")
+            .build()));
+    }
+}
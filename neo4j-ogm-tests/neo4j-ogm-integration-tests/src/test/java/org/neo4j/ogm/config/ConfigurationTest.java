@@ -45,6 +45,20 @@ public class ConfigurationTest {
         builder.trustStrategy("TRUST_SIGNED_CERTIFICATES");
         builder.trustCertFile("/tmp/cert");
         builder.connectionLivenessCheckTimeout(1000);
+        builder.slowQueryThreshold(500);
+        builder.maxResultRows(10000);
+        builder.maxHydratedEntities(1000);
+        builder.maxTransactionRetryTime(5000);
+        builder.httpConnectTimeout(1000);
+        builder.httpSocketTimeout(2000);
+        builder.httpConnectionRequestTimeout(3000);
+        builder.httpValidateAfterInactivity(4000);
+        builder.httpMaxIdleTime(5000);
+        builder.httpKeepAliveTime(6000);
+        builder.httpRetryMaxAttempts(5);
+        builder.httpRetryStatusCodes(502, 503);
+        builder.httpCircuitBreakerThreshold(10);
+        builder.embeddedBulkWrite(true);
 
         Configuration configuration = builder.build();
 
@@ -59,6 +73,20 @@ public class ConfigurationTest {
         assertThat(configuration.getTrustStrategy()).isEqualTo("TRUST_SIGNED_CERTIFICATES");
         assertThat(configuration.getTrustCertFile()).isEqualTo("/tmp/cert");
         assertThat(configuration.getConnectionLivenessCheckTimeout().intValue()).isEqualTo(1000);
+        assertThat(configuration.getSlowQueryThreshold()).isEqualTo(500);
+        assertThat(configuration.getMaxResultRows()).isEqualTo(10000);
+        assertThat(configuration.getMaxHydratedEntities()).isEqualTo(1000);
+        assertThat(configuration.getMaxTransactionRetryTime()).isEqualTo(5000);
+        assertThat(configuration.getHttpConnectTimeout()).isEqualTo(1000);
+        assertThat(configuration.getHttpSocketTimeout()).isEqualTo(2000);
+        assertThat(configuration.getHttpConnectionRequestTimeout()).isEqualTo(3000);
+        assertThat(configuration.getHttpValidateAfterInactivity()).isEqualTo(4000);
+        assertThat(configuration.getHttpMaxIdleTime()).isEqualTo(5000);
+        assertThat(configuration.getHttpKeepAliveTime()).isEqualTo(6000);
+        assertThat(configuration.getHttpRetryMaxAttempts()).isEqualTo(5);
+        assertThat(configuration.getHttpRetryStatusCodes()).containsExactly(502, 503);
+        assertThat(configuration.getHttpCircuitBreakerThreshold()).isEqualTo(10);
+        assertThat(configuration.getEmbeddedBulkWrite()).isTrue();
     }
 
     @Test
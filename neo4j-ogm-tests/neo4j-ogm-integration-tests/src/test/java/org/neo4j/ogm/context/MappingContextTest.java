@@ -227,6 +227,23 @@ public class MappingContextTest {
         assertThat(mappingContext.getNodeEntity(initialNativeId)).isNull();
     }
 
+    @Test
+    public void concurrentContextKeepsTheEntityRegisteredFirst() {
+
+        MappingContext concurrentContext = MappingContext.concurrent(metaData);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Person anotherJim = new Person("jim");
+        anotherJim.setId(1L);
+
+        assertThat(concurrentContext.isConcurrent()).isTrue();
+        assertThat(concurrentContext.addNodeEntity(jim)).isSameAs(jim);
+        concurrentContext.addNodeEntity(anotherJim);
+        assertThat(concurrentContext.getNodeEntity(1L)).isSameAs(jim);
+        assertThat(concurrentContext.isDirty(jim)).isFalse();
+    }
+
     /**
      * Check if the context contains the nativeId for an entity
      *
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.embedded.driver;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.request.BulkWriteRequestHandler;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+public class EmbeddedBulkWriteTest {
+
+    private static GraphDatabaseService graphDatabaseService;
+    private static SessionFactory sessionFactory;
+
+    @BeforeClass
+    public static void initSessionFactory() {
+        assumeTrue("ogm-embedded.properties".equals(System.getProperty("ogm.properties")));
+
+        graphDatabaseService = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        EmbeddedDriver driver = new EmbeddedDriver(graphDatabaseService,
+            new Configuration.Builder().embeddedBulkWrite(true).build());
+        assertThat(driver.request(null)).isInstanceOf(BulkWriteRequestHandler.class);
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+    }
+
+    @AfterClass
+    public static void closeSessionFactory() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    public void shouldWriteNewEntitiesAndAssignTheirIds() {
+
+        Artist artist = new Artist("Pink Floyd");
+        Album album = new Album("The Wall");
+        album.setArtist(artist);
+        artist.addAlbum(album);
+        Studio studio = new Studio("Britannia Row");
+        Recording recording = new Recording(album, studio, 1979);
+        album.setRecording(recording);
+
+        Session session = sessionFactory.openSession();
+        session.save(artist);
+
+        assertThat(artist.getId()).isNotNull();
+        assertThat(album.getId()).isNotNull();
+        assertThat(studio.getId()).isNotNull();
+        assertThat(recording.getId()).isNotNull();
+
+        try (Result result = graphDatabaseService.execute(
+            "MATCH (a:`l'artiste`)-[:`HAS-ALBUM`]->(b:`l'album`)-[r:`RECORDED-AT`]->(s:Studio) "
+                + "RETURN id(a) AS a, b.name AS album, r.year AS year, s.`studio-name` AS studio")) {
+            Map<String, Object> row = result.next();
+            assertThat(row).containsEntry("a", artist.getId())
+                .containsEntry("album", "The Wall")
+                .containsEntry("studio", "Britannia Row");
+            assertThat(((Number) row.get("year")).intValue()).isEqualTo(1979);
+        }
+
+        // Updates of the entities written in bulk still run as Cypher
+        artist.setName("Pink Floyd (UK)");
+        session.save(artist);
+
+        Artist loaded = sessionFactory.openSession().load(Artist.class, artist.getId());
+        assertThat(loaded.getName()).isEqualTo("Pink Floyd (UK)");
+        assertThat(loaded.getAlbums()).extracting(Album::getName).containsExactly("The Wall");
+    }
+}
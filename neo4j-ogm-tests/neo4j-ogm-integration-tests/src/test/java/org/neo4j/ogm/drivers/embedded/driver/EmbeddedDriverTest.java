@@ -20,20 +20,36 @@ package org.neo4j.ogm.drivers.embedded.driver;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.Assume.*;
+import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.graphdb.security.WriteOperationsNotAllowedException;
 import org.neo4j.ogm.config.ClasspathConfigurationSource;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.DefaultNodeByIdRequest;
+import org.neo4j.ogm.drivers.embedded.response.MultiStatementRowModelResponse;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowDataStatement;
 import org.neo4j.ogm.support.ClassUtils;
 import org.neo4j.ogm.support.FileUtils;
 import org.neo4j.test.TestGraphDatabaseFactory;
@@ -78,6 +94,95 @@ public class EmbeddedDriverTest {
         }
     }
 
+    @Test
+    public void shouldLoadNodeByIdWithoutRunningQuery() {
+
+        try (EmbeddedDriver driver = new EmbeddedDriver()) {
+            driver.configure(new Configuration.Builder().build());
+
+            GraphDatabaseService databaseService = driver.unwrap(GraphDatabaseService.class);
+
+            try (Transaction tx = databaseService.beginTx()) {
+                Node movie = databaseService
+                    .execute("CREATE (m:Movie {title: 'Matrix'})<-[:ACTED_IN]-(:Person {name: 'Keanu'}) RETURN m")
+                    .<Node>columnAs("m").next();
+                Request request = driver.request(mock(org.neo4j.ogm.transaction.Transaction.class));
+
+                // The statement is not valid Cypher and would fail if it was run
+                try (Response<GraphModel> response = request.execute(
+                    new DefaultNodeByIdRequest("INVALID", Collections.emptyMap(), "Movie", null, movie.getId(), 1))) {
+                    GraphModel graphModel = response.next();
+                    assertThat(graphModel.getNodes()).hasSize(2);
+                    assertThat(graphModel.getRelationships()).hasSize(1);
+                    assertThat(response.next()).isNull();
+                }
+                try (Response<GraphModel> response = request.execute(
+                    new DefaultNodeByIdRequest("INVALID", Collections.emptyMap(), "Person", null, movie.getId(), 0))) {
+                    assertThat(response.next()).isNull();
+                }
+                tx.success();
+            }
+        }
+    }
+
+    @Test
+    public void shouldRunNextStatementWhenPreviousResultIsExhausted() {
+
+        try (EmbeddedDriver driver = new EmbeddedDriver()) {
+            driver.configure(new Configuration.Builder().build());
+
+            GraphDatabaseService databaseService = driver.unwrap(GraphDatabaseService.class);
+
+            try (Transaction tx = databaseService.beginTx()) {
+                Request request = driver.request(mock(org.neo4j.ogm.transaction.Transaction.class));
+                Map<String, Object> noParameters = Collections.emptyMap();
+                DefaultRequest defaultRequest = new DefaultRequest();
+                defaultRequest.setStatements(Arrays.<Statement>asList(
+                    new RowDataStatement("UNWIND [1, 2] AS i CREATE (n:First) RETURN id(n) AS id", noParameters),
+                    new RowDataStatement("CREATE (n:Second) RETURN id(n) AS id", noParameters),
+                    new RowDataStatement("CREATE (n:Third) RETURN id(n) AS id", noParameters)));
+
+                try (Response<RowModel> response = request.execute(defaultRequest)) {
+                    assertThat(response.columns()).containsExactly("id");
+                    assertThat(response.next()).isNotNull();
+                    assertThat(response.next()).isNotNull();
+                    assertThat(count(databaseService, "Second")).isEqualTo(0L);
+
+                    assertThat(response.next()).isNotNull();
+                    assertThat(count(databaseService, "Second")).isEqualTo(1L);
+                    assertThat(count(databaseService, "Third")).isEqualTo(0L);
+                }
+                // Closing the response runs the remaining statements
+                assertThat(count(databaseService, "Third")).isEqualTo(1L);
+                tx.success();
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotRunRemainingStatementsAfterAFailedOne() {
+
+        Map<String, Object> noParameters = Collections.emptyMap();
+        Statement first = new RowDataStatement("RETURN 1", noParameters);
+        Statement failing = new RowDataStatement("RETURN 1/0", noParameters);
+        Statement last = new RowDataStatement("CREATE (n)", noParameters);
+        List<Statement> executedStatements = new ArrayList<>();
+
+        Response<RowModel> response = new MultiStatementRowModelResponse(Arrays.asList(first, failing, last),
+            statement -> {
+                executedStatements.add(statement);
+                if (statement == failing) {
+                    throw new ArithmeticException("/ by zero");
+                }
+                return mock(Result.class);
+            }, mock(EmbeddedEntityAdapter.class));
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(response::next);
+        response.close();
+
+        assertThat(executedStatements).containsExactly(first, failing);
+    }
+
     @Test
     public void shouldWriteAndReadFromProvidedDatabase() throws Exception {
 
@@ -239,4 +344,8 @@ public class EmbeddedDriverTest {
             return false;
         }
     }
+
+    private static long count(GraphDatabaseService databaseService, String label) {
+        return databaseService.execute("MATCH (n:" + label + ") RETURN count(n) AS c").<Long>columnAs("c").next();
+    }
 }
@@ -67,6 +67,16 @@ public class MetaDataTest {
         assertThat(classInfo.name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
     }
 
+    @Test
+    public void testIgnoresUnknownLabelsWhenResolvingClassHierarchies() {
+        for (int i = 0; i < 2_000; i++) {
+            ClassInfo classInfo = metaData.resolve("Login", "Dynamic" + i, "User");
+            assertThat(classInfo.name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
+        }
+        assertThat(metaData.resolve("Dynamic0")).isNull();
+        assertThat(metaData.resolve("Dynamic0", "Login")).isSameAs(metaData.resolve("Login"));
+    }
+
     @Test(expected = AmbiguousBaseClassException.class)
     public void testCannotResolveInconsistentClassHierarchies() {
         metaData.resolve("Login", "Topic");
@@ -42,6 +42,7 @@ import org.neo4j.ogm.domain.satellites.Satellite;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DomainInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.support.PrimitiveArrayList;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -361,6 +362,31 @@ public class EntityAccessManagerTest {
         assertThat(o).isEqualTo(natural);
     }
 
+    @Test
+    public void shouldCopyPrimitiveArraysWithoutBoxing() {
+        double[] values = { 1.0, 2.0, 3.0 };
+
+        Object merged = EntityAccessManager
+            .merge(double[].class, new PrimitiveArrayList(values), new Object[0], double.class);
+
+        assertThat(merged).isInstanceOf(double[].class).isNotSameAs(values);
+        assertThat((double[]) merged).containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    public void shouldCoerceNumbersIntoPrimitiveArrays() {
+        Object longs = EntityAccessManager
+            .merge(long[].class, Arrays.asList(1, 2L, null), Collections.emptyList(), long.class);
+        Object doubles = EntityAccessManager
+            .merge(double[].class, Arrays.asList(1, 2L, 3.5), Collections.emptyList(), double.class);
+        Object ints = EntityAccessManager
+            .merge(int[].class, Arrays.asList(1L, 2), Collections.emptyList(), int.class);
+
+        assertThat((long[]) longs).containsExactly(1L, 2L, 0L);
+        assertThat((double[]) doubles).containsExactly(1.0, 2.0, 3.5);
+        assertThat((int[]) ints).containsExactly(1, 2);
+    }
+
     /**
      * Domain object exhibiting various annotation configurations on its properties for test purposes.
      */
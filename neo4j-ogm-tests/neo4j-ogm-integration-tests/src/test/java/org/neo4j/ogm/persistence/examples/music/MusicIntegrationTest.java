@@ -39,6 +39,8 @@ import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.session.FetchPlan;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.session.Utils;
@@ -112,6 +114,71 @@ public class MusicIntegrationTest extends MultiDriverTestClass {
         }
     }
 
+    @Test
+    public void shouldLoadOnlyRelationshipPathsOfFetchPlan() {
+        Studio emi = new Studio("EMI Studios, London");
+
+        Artist theBeatles = new Artist("The Beatles");
+        Album please = new Album("Please Please Me");
+        please.setRecording(new Recording(please, emi, 1963));
+        please.setArtist(theBeatles);
+        theBeatles.getAlbums().add(please);
+        Album guestAlbum = new Album("Guest Album");
+        guestAlbum.setGuestArtist(theBeatles);
+        theBeatles.getGuestAlbums().add(guestAlbum);
+        session.save(theBeatles);
+
+        Session newSession = sessionFactory.openSession();
+        FetchPlan fetchPlan = FetchPlan.named("albumsWithRecordings", "albums.recording");
+        theBeatles = newSession.load(Artist.class, theBeatles.getId(), fetchPlan);
+
+        assertThat(theBeatles.getGuestAlbums()).isEmpty();
+        assertThat(theBeatles.getAlbums()).hasSize(1);
+        assertThat(theBeatles.getAlbums().iterator().next().getRecording().getStudio().getName())
+            .isEqualTo("EMI Studios, London");
+
+        Collection<Artist> artists = sessionFactory.openSession().loadAll(Artist.class, FetchPlan.named("none"));
+        assertThat(artists).hasSize(1);
+        assertThat(artists.iterator().next().getAlbums()).isEmpty();
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> newSession.loadAll(Artist.class, FetchPlan.named("unknown", "albums.studio")));
+    }
+
+    @Test
+    public void shouldLoadDeepLevelsInSeparateQueriesWithSplitLoadStrategy() {
+        Studio emi = new Studio("EMI Studios, London");
+
+        Artist theBeatles = new Artist("The Beatles");
+        Album please = new Album("Please Please Me");
+        please.setRecording(new Recording(please, emi, 1963));
+        please.setArtist(theBeatles);
+        theBeatles.getAlbums().add(please);
+        Album hard = new Album("A Hard Day's Night");
+        hard.setRecording(new Recording(hard, emi, 1964));
+        hard.setArtist(theBeatles);
+        theBeatles.getAlbums().add(hard);
+        session.save(theBeatles);
+
+        Session newSession = sessionFactory.openSession();
+        newSession.setLoadStrategy(LoadStrategy.SPLIT_LOAD_STRATEGY);
+        theBeatles = newSession.load(Artist.class, theBeatles.getId(), 3);
+
+        assertThat(theBeatles.getAlbums()).hasSize(2);
+        for (Album album : theBeatles.getAlbums()) {
+            assertThat(album.getArtist()).isSameAs(theBeatles);
+            assertThat(album.getRecording().getStudio().getName()).isEqualTo("EMI Studios, London");
+        }
+
+        newSession = sessionFactory.openSession();
+        newSession.setLoadStrategy(LoadStrategy.SPLIT_LOAD_STRATEGY);
+        Collection<Artist> artists = newSession.loadAll(Artist.class, 1);
+        assertThat(artists).hasSize(1);
+        assertThat(artists.iterator().next().getAlbums())
+            .extracting(Album::getRecording)
+            .containsOnlyNulls();
+    }
+
     /**
      * @see DATAGRAPH-631
      */
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -85,4 +86,27 @@ public class BookmarkTest {
         String lastBookmark = session.getLastBookmark();
         assertThat(lastBookmark).isEqualTo("last-bookmark");
     }
+
+    @Test
+    public void shouldRouteReadQueriesWithLastBookmark() throws Exception {
+
+        Transaction transaction = session.beginTransaction(Transaction.Type.READ_WRITE);
+        transaction.commit();
+        transaction.close();
+
+        session.query(Long.class, "MATCH (n) RETURN count(n)", Collections.emptyMap());
+
+        verify(nativeDriver).session(AccessMode.READ, Collections.singleton("last-bookmark"));
+    }
+
+    @Test
+    public void shouldRouteWriteQueriesToLeader() throws Exception {
+
+        session.query(Long.class, "MATCH (n) DETACH DELETE n RETURN count(n)", Collections.emptyMap());
+        session.query(Long.class, "CALL db.labels() YIELD label RETURN count(label)", Collections.emptyMap());
+
+        verify(nativeDriver).session(AccessMode.WRITE, Collections.emptySet());
+        verify(nativeDriver).session(AccessMode.WRITE, Collections.singleton("last-bookmark"));
+        verify(nativeDriver, never()).session(eq(AccessMode.READ), anyIterable());
+    }
 }
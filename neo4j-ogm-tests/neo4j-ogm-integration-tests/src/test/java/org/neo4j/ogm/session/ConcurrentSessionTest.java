@@ -20,9 +20,16 @@ package org.neo4j.ogm.session;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -30,6 +37,7 @@ import org.junit.Test;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.domain.concurrency.World;
+import org.neo4j.ogm.session.metrics.MetricsListener;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
 
 /**
@@ -92,4 +100,72 @@ public class ConcurrentSessionTest extends MultiDriverTestClass {
         countDownLatch.await();
         assertThat(failed).isFalse();
     }
+
+    @Test
+    public void sharedReadOnlySessionReturnsTheSameInstancesToAllThreads() throws Exception {
+
+        World earth = new World("shared earth", 1);
+        World mars = new World("shared mars", 2);
+        earth.addRocketRouteTo(mars);
+        sessionFactory.openSession().save(earth);
+
+        Session sharedSession = sessionFactory.openSharedReadOnlySession();
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        List<Future<World>> loadedWorlds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Long id = i % 2 == 0 ? earth.getId() : mars.getId();
+            loadedWorlds.add(service.submit(() -> sharedSession.load(World.class, id, 1)));
+        }
+
+        Set<World> distinctWorlds = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<World> loadedWorld : loadedWorlds) {
+            distinctWorlds.add(loadedWorld.get());
+        }
+        service.shutdown();
+
+        assertThat(distinctWorlds).hasSize(2);
+        World sharedEarth = sharedSession.load(World.class, earth.getId(), 0);
+        assertThat(distinctWorlds).contains(sharedEarth);
+        assertThat(sharedEarth.getReachableByRocket()).hasSize(1);
+        assertThat(distinctWorlds).containsAll(sharedEarth.getReachableByRocket());
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sharedSession.save(earth));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> sharedSession.query(World.class, "MATCH (w:World) SET w.moons = 0 RETURN w",
+                Collections.emptyMap()));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> sharedSession.query("MATCH (w:World) DETACH DELETE w", Collections.emptyMap()));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> sharedSession.query("CALL db.labels()", Collections.emptyMap()));
+    }
+
+    @Test
+    public void sharedReadOnlySessionReportsOperationsOfAllThreads() throws Exception {
+
+        World venus = new World("shared venus", 0);
+        sessionFactory.openSession().save(venus);
+
+        AtomicInteger completedLoads = new AtomicInteger();
+        SessionFactory measuredSessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.concurrency");
+        measuredSessionFactory.register(new MetricsListener() {
+            @Override
+            public void operationCompleted(Operation operation, long durationNanos, boolean successful) {
+                if (operation == Operation.LOAD && successful) {
+                    completedLoads.incrementAndGet();
+                }
+            }
+        });
+
+        Session sharedSession = measuredSessionFactory.openSharedReadOnlySession();
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        List<Future<World>> loadedWorlds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            loadedWorlds.add(service.submit(() -> sharedSession.load(World.class, venus.getId())));
+        }
+        for (Future<World> loadedWorld : loadedWorlds) {
+            assertThat(loadedWorld.get().getName()).isEqualTo("shared venus");
+        }
+        service.shutdown();
+
+        assertThat(completedLoads.get()).isEqualTo(20);
+    }
 }
@@ -45,4 +45,22 @@ public class UtilsTest {
         assertThat(Utils.coerceTypes(long.class, null)).isEqualTo(0L);
         assertThat(Utils.coerceTypes(short.class, null)).isEqualTo(0);
     }
+
+    @Test
+    public void precomputedCoercionsShouldBehaveLikeCoerceTypes() {
+        assertThat(Utils.coercionFor(int.class).apply(null)).isEqualTo(Utils.coerceTypes(int.class, null));
+        assertThat(Utils.coercionFor(Integer.class).apply(null)).isNull();
+        assertThat(Utils.coercionFor(int.class).apply(42L)).isEqualTo(42);
+        assertThat(Utils.coercionFor(Float.class).apply(1.5d)).isEqualTo(1.5f);
+        assertThat(Utils.coercionFor(double.class).apply(1)).isEqualTo(1.0d);
+        assertThat(Utils.coercionFor(char.class).apply("a")).isEqualTo('a');
+        assertThat(Utils.coercionFor(String.class).apply("a")).isEqualTo("a");
+        assertThat(Utils.coercionFor(null).apply(42L)).isEqualTo(42L);
+    }
+
+    @Test
+    public void precomputedCoercionsShouldDetectOverflows() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Utils.coercionFor(byte.class).apply(128))
+            .withMessage("128 cannot be cast to byte without an overflow.");
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.annotations.ids.ValidAnnotations;
+import org.neo4j.ogm.driver.ConnectionPoolStatistics;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.metrics.MetricsListener.Operation;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class MetricsListenerTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private final RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.annotations.ids");
+    }
+
+    @After
+    public void tearDown() {
+        sessionFactory.deregister(metricsListener);
+        sessionFactory.openSession().purgeDatabase();
+    }
+
+    @Test
+    public void shouldReportSessionOperations() {
+
+        sessionFactory.register(metricsListener);
+        Session session = sessionFactory.openSession();
+
+        ValidAnnotations.InternalId entity = new ValidAnnotations.InternalId();
+        session.save(entity);
+        session.clear();
+        ValidAnnotations.InternalId loaded = session.load(ValidAnnotations.InternalId.class, entity.id);
+
+        assertThat(loaded).isNotNull();
+        assertThat(metricsListener.operations).containsExactly(Operation.SAVE, Operation.LOAD);
+        assertThat(metricsListener.statementCount).isEqualTo(1);
+        assertThat(metricsListener.rowCount).isEqualTo(1);
+        assertThat(metricsListener.entityCount).isEqualTo(1);
+        assertThat(metricsListener.nodeEntityCount).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReportConnectionPoolUsageOfDriversExposingIt() {
+
+        sessionFactory.register(metricsListener);
+        sessionFactory.openSession().save(new ValidAnnotations.InternalId());
+
+        ConnectionPoolStatistics poolStatistics = driver.getConnectionPoolStatistics();
+        if (poolStatistics == null) {
+            assertThat(metricsListener.poolReports).isZero();
+        } else {
+            assertThat(metricsListener.poolReports).isEqualTo(1);
+            assertThat(metricsListener.poolMax).isEqualTo(poolStatistics.getMax());
+        }
+    }
+
+    @Test
+    public void shouldNotReportToDeregisteredListeners() {
+
+        sessionFactory.register(metricsListener);
+        sessionFactory.deregister(metricsListener);
+        sessionFactory.openSession().save(new ValidAnnotations.InternalId());
+
+        assertThat(metricsListener.operations).isEmpty();
+    }
+
+    private static class RecordingMetricsListener implements MetricsListener {
+
+        private final List<Operation> operations = new ArrayList<>();
+        private int statementCount;
+        private int rowCount;
+        private int entityCount;
+        private int nodeEntityCount;
+        private int poolReports;
+        private int poolMax;
+
+        @Override
+        public void operationCompleted(Operation operation, long durationNanos, boolean successful) {
+            operations.add(operation);
+        }
+
+        @Override
+        public void statementsExecuted(int count, long durationNanos) {
+            statementCount += count;
+        }
+
+        @Override
+        public void resultFetched(int rows, long durationNanos) {
+            rowCount += rows;
+        }
+
+        @Override
+        public void resultMapped(int rows, int entities, long durationNanos) {
+            entityCount += entities;
+        }
+
+        @Override
+        public void mappingContextSize(int nodeEntities, int relationshipEntities) {
+            nodeEntityCount = nodeEntities;
+        }
+
+        @Override
+        public void connectionPoolUsage(int leased, int pending, int available, int max) {
+            poolReports++;
+            poolMax = max;
+        }
+    }
+}
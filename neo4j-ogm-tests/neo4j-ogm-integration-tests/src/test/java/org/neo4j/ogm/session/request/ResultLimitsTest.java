@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.domain.annotations.ids.ValidAnnotations;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.exception.core.ResultSizeExceededException;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.SessionSettings;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class ResultLimitsTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private static SessionFactory musicSessionFactory;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.annotations.ids");
+        musicSessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+    }
+
+    @After
+    public void tearDown() {
+        sessionFactory.openSession().purgeDatabase();
+    }
+
+    @Test
+    public void shouldAbortOperationsReadingTooManyRows() {
+
+        saveEntities(3);
+        Session session = openSession(new ResultLimits(2, null));
+
+        assertThatExceptionOfType(ResultSizeExceededException.class)
+            .isThrownBy(() -> session.loadAll(ValidAnnotations.InternalId.class))
+            .withMessageContaining("2 rows");
+        assertThat(session.loadAll(ValidAnnotations.InternalId.class, new Pagination(0, 2))).hasSize(2);
+    }
+
+    @Test
+    public void shouldAbortOperationsHydratingTooManyEntities() {
+
+        saveEntities(3);
+        Session session = openSession(new ResultLimits(null, 2));
+
+        assertThatExceptionOfType(ResultSizeExceededException.class)
+            .isThrownBy(() -> session.loadAll(ValidAnnotations.InternalId.class))
+            .withMessageContaining("2 entities");
+        assertThat(openSession(new ResultLimits(null, 3)).loadAll(ValidAnnotations.InternalId.class)).hasSize(3);
+    }
+
+    @Test
+    public void shouldOnlyCountNestedEntitiesOfSchemaLoadStrategyTowardsEntityLimit() {
+
+        Artist artist = new Artist("Led Zeppelin");
+        artist.addAlbum(new Album("Led Zeppelin"));
+        artist.addAlbum(new Album("Led Zeppelin II"));
+        artist.addAlbum(new Album("Led Zeppelin III"));
+        musicSessionFactory.openSession().save(artist);
+
+        // The albums are nested in the single row of the artist
+        assertThat(openSession(musicSessionFactory, new ResultLimits(1, null)).loadAll(Artist.class))
+            .hasSize(1)
+            .allSatisfy(loaded -> assertThat(loaded.getAlbums()).hasSize(3));
+        assertThatExceptionOfType(ResultSizeExceededException.class)
+            .isThrownBy(() -> openSession(musicSessionFactory, new ResultLimits(1, 3)).loadAll(Artist.class))
+            .withMessageContaining("3 entities");
+    }
+
+    private void saveEntities(int count) {
+
+        Session session = sessionFactory.openSession();
+        for (int i = 0; i < count; i++) {
+            session.save(new ValidAnnotations.InternalId());
+        }
+    }
+
+    private Session openSession(ResultLimits resultLimits) {
+        return openSession(sessionFactory, resultLimits);
+    }
+
+    private Session openSession(SessionFactory sessionFactory, ResultLimits resultLimits) {
+        SessionSettings settings = new SessionSettings.Builder()
+            .loadStrategy(LoadStrategy.SCHEMA_LOAD_STRATEGY)
+            .resultLimits(resultLimits)
+            .build();
+        return new Neo4jSession(sessionFactory.metaData(), driver, settings) {
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.annotations.ids.ValidAnnotations;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class QueryTracerTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private final List<RecordingSpan> spans = new ArrayList<>();
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.annotations.ids");
+    }
+
+    @After
+    public void tearDown() {
+        sessionFactory.setQueryTracer(QueryTracer.NOOP);
+        sessionFactory.openSession().purgeDatabase();
+    }
+
+    @Test
+    public void shouldTraceExecutionFetchingAndMappingOfRequests() {
+
+        sessionFactory.setQueryTracer(statements -> {
+            RecordingSpan span = new RecordingSpan(statements);
+            spans.add(span);
+            return span;
+        });
+        Session session = sessionFactory.openSession();
+
+        ValidAnnotations.InternalId entity = new ValidAnnotations.InternalId();
+        session.save(entity);
+        session.clear();
+        session.load(ValidAnnotations.InternalId.class, entity.id);
+
+        assertThat(spans).hasSize(2);
+        assertThat(spans).allSatisfy(span -> {
+            assertThat(span.phases).startsWith("executed", "fetched").endsWith("end");
+            assertThat(span.statements).allSatisfy(statement -> assertThat(statement.getParameters()).isNotEmpty());
+        });
+
+        RecordingSpan save = spans.get(0);
+        assertThat(save.statements.get(0).getStatement()).containsIgnoringCase("CREATE");
+        assertThat(save.rowCount).isEqualTo(1);
+
+        RecordingSpan load = spans.get(1);
+        assertThat(load.statements.get(0).getStatement()).containsIgnoringCase("MATCH");
+        assertThat(load.phases).containsExactly("executed", "fetched", "mapped", "end");
+        assertThat(load.rowCount).isEqualTo(1);
+        assertThat(load.entityCount).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotTraceWithoutTracer() {
+
+        sessionFactory.openSession().save(new ValidAnnotations.InternalId());
+
+        assertThat(spans).isEmpty();
+    }
+
+    private static class RecordingSpan implements QuerySpan {
+
+        private final List<Statement> statements;
+        private final List<String> phases = new ArrayList<>();
+        private int rowCount;
+        private int entityCount;
+
+        RecordingSpan(List<Statement> statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        public void executed(long durationNanos) {
+            phases.add("executed");
+        }
+
+        @Override
+        public void fetched(int rows, long durationNanos) {
+            phases.add("fetched");
+            rowCount = rows;
+        }
+
+        @Override
+        public void mapped(int entities, long durationNanos) {
+            phases.add("mapped");
+            entityCount = entities;
+        }
+
+        @Override
+        public void end() {
+            phases.add("end");
+        }
+    }
+}